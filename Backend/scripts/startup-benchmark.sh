@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+# Measures time-to-ready of the packaged backend and appends the results to benchmarks/startup.csv.
+#
+#   mvn -Pcds package -DskipTests
+#   scripts/startup-benchmark.sh [application args...]
+#
+# Each run starts the application, polls /actuator/health/readiness until it answers 200, records the
+# elapsed wall-clock time and stops the process. Three launch modes are measured:
+#   jar        java -jar on the repackaged jar (nested jars, no archive)
+#   extracted  the jar extracted to target/cds
+#   cds        extracted, with the class-data-sharing archive from the training run
+#
+# Environment:
+#   RUNS             runs per mode (default 5)
+#   PROFILE          Spring profile (default prod)
+#   PORT             HTTP port (default 18080)
+#   EXTRA_CLASSPATH  absolute path(s) appended to the classpath, e.g. a JDBC driver for a database other than MySQL
+#   NOTE             free text stored with each result, e.g. the database used
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PROFILE=${PROFILE:-prod}
+PORT=${PORT:-18080}
+EXTRA_CLASSPATH=${EXTRA_CLASSPATH:-}
+NOTE=${NOTE:-}
+RESULTS=benchmarks/startup.csv
+TIMEOUT_SECONDS=120
+
+JAR=$(ls target/Backend-*.jar | grep -v -e '-verifier.jar' -e '.original' | head -n 1)
+CDS_DIR=target/cds
+CDS_JAR=$(basename "$JAR")
+if [[ ! -f $CDS_DIR/application.jsa ]]; then
+    echo "No CDS archive in $CDS_DIR; build with: mvn -Pcds package" >&2
+    exit 1
+fi
+
+JDK=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.runtime.version/ {print $2}')
+COMMIT=$(git describe --always --dirty 2>/dev/null || echo unknown)
+if [[ ! -f $RESULTS ]]; then
+    echo "date,commit,jdk,mode,profile,run,ready_ms,note" > "$RESULTS"
+fi
+
+classpath() {
+    if [[ -n $EXTRA_CLASSPATH ]]; then echo "$1:$EXTRA_CLASSPATH"; else echo "$1"; fi
+}
+
+launch() {
+    local mode=$1
+    shift
+    case $mode in
+        jar)
+            exec java -cp "$(classpath "$JAR")" org.springframework.boot.loader.launch.JarLauncher "$@" ;;
+        extracted)
+            cd "$CDS_DIR"
+            exec java -cp "$(classpath "$CDS_JAR")" com.monochrome.Backend.BackendApplication "$@" ;;
+        cds)
+            # the archive only applies to the classpath it was trained with, relative to target/cds
+            cd "$CDS_DIR"
+            exec java -XX:SharedArchiveFile=application.jsa -Xlog:cds=error \
+                -cp "$(classpath "$CDS_JAR")" com.monochrome.Backend.BackendApplication "$@" ;;
+    esac
+}
+
+measure() {
+    local mode=$1
+    shift
+    local log
+    log=$(mktemp)
+    local started
+    started=$(date +%s%N)
+    launch "$mode" --server.port="$PORT" --spring.profiles.active="$PROFILE" "$@" > "$log" 2>&1 &
+    local pid=$!
+    local deadline=$((SECONDS + TIMEOUT_SECONDS))
+    until curl -sf -o /dev/null "http://localhost:$PORT/actuator/health/readiness"; do
+        if ! kill -0 "$pid" 2>/dev/null || ((SECONDS > deadline)); then
+            kill "$pid" 2>/dev/null || true
+            echo "$mode: application did not become ready, log in $log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    local ready_ms=$((($(date +%s%N) - started) / 1000000))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+    echo "$ready_ms"
+}
+
+for mode in jar extracted cds; do
+    for run in $(seq 1 "$RUNS"); do
+        ready_ms=$(measure "$mode" "$@")
+        echo "$mode run $run: ${ready_ms} ms"
+        echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$COMMIT,$JDK,$mode,$PROFILE,$run,$ready_ms,\"$NOTE\"" >> "$RESULTS"
+    done
+done
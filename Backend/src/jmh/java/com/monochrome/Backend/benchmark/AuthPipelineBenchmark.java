@@ -0,0 +1,100 @@
+package com.monochrome.Backend.benchmark;
+
+import com.monochrome.Backend.dto.UserAuthView;
+import com.monochrome.Backend.dto.UserDto;
+import com.monochrome.Backend.security.CustomUserDetailsService;
+import com.monochrome.Backend.security.JwtAuthFilter;
+import com.monochrome.Backend.security.JwtService;
+import com.monochrome.Backend.service.AuthService;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring-wired auth paths against the embedded database: DTO mapping, user loading and the full
+ * {@link JwtAuthFilter} with a mock filter chain, for a valid token and for the expired and garbage tokens
+ * that make up most rejected traffic.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthPipelineBenchmark {
+
+    private AuthService authService;
+    private CustomUserDetailsService userDetailsService;
+    private JwtAuthFilter jwtAuthFilter;
+    private UserAuthView user;
+    private String bearer;
+    private String expiredBearer;
+
+    @Setup
+    public void setup() {
+        ConfigurableApplicationContext ctx = BenchmarkContext.get();
+        authService = ctx.getBean(AuthService.class);
+        userDetailsService = ctx.getBean(CustomUserDetailsService.class);
+        jwtAuthFilter = ctx.getBean(JwtAuthFilter.class);
+        user = BenchmarkContext.user();
+        bearer = "Bearer " + ctx.getBean(JwtService.class).generateAccessToken(user);
+        Base64.Encoder b64 = Base64.getUrlEncoder().withoutPadding();
+        expiredBearer = "Bearer " + b64.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + b64.encodeToString(("{\"sub\":\"" + BenchmarkContext.USERNAME + "\",\"exp\":1600000000}")
+                .getBytes(StandardCharsets.UTF_8))
+                + "." + b64.encodeToString(new byte[32]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public UserDto toDto() {
+        return authService.toDto(user);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername(BenchmarkContext.USERNAME);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse jwtAuthFilter() throws ServletException, IOException {
+        return filter(bearer);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse jwtAuthFilterExpiredToken() throws ServletException, IOException {
+        return filter(expiredBearer);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse jwtAuthFilterGarbageToken() throws ServletException, IOException {
+        return filter("Bearer undefined");
+    }
+
+    private MockHttpServletResponse filter(String authorization) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/me");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            jwtAuthFilter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
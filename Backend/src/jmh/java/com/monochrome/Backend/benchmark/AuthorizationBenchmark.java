@@ -0,0 +1,134 @@
+package com.monochrome.Backend.benchmark;
+
+import com.monochrome.Backend.authorization.AccessRule;
+import com.monochrome.Backend.authorization.PermissionMethodAuthorizationManager;
+import com.monochrome.Backend.authorization.RequiresPermission;
+import com.monochrome.Backend.authorization.RouteAuthorizationManager;
+import com.monochrome.Backend.security.InternedUser;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.access.intercept.RequestMatcherDelegatingAuthorizationManager;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * One authorization decision for an authenticated admin. The URL cases compare the ordered
+ * {@code requestMatchers} list (built here with {@link PathPatternRequestMatcher}) against the compiled route
+ * trie, padded with {@code routes - 6} extra admin rules ahead of the catch-all; {@code /api/sessions} only
+ * matches the catch-all. The method cases compare a SpEL {@code @PreAuthorize} with {@code @RequiresPermission}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    private static final int BASE_ROUTES = 6;
+    private static final AuthorizationManager<RequestAuthorizationContext> PERMIT_ALL =
+            (a, c) -> new AuthorizationDecision(true);
+
+    @Param({"6", "60"})
+    public int routes;
+
+    @Param({"/api/admin/users", "/api/sessions"})
+    public String path;
+
+    private Supplier<Authentication> authentication;
+    private RequestAuthorizationContext request;
+    private AuthorizationManager<HttpServletRequest> requestMatchers;
+    private HttpServletRequest servletRequest;
+    private RouteAuthorizationManager routeTrie;
+    private MethodInvocation preAuthorizeCall;
+    private MethodInvocation requiresPermissionCall;
+    private final PreAuthorizeAuthorizationManager preAuthorize = new PreAuthorizeAuthorizationManager();
+    private final PermissionMethodAuthorizationManager requiresPermission = new PermissionMethodAuthorizationManager();
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        Set<GrantedAuthority> authorities = Set.copyOf(AuthorityUtils.createAuthorityList(
+                "ROLE_ADMIN", "PERM_APPOINTMENTS", "PERM_SERVICES", "PERM_USERS", "PERM_ANALYTICS", "PERM_SETTINGS"));
+        Authentication admin = new UsernamePasswordAuthenticationToken(
+                new InternedUser(BenchmarkContext.USERNAME, "", true, authorities), null, authorities);
+        authentication = () -> admin;
+        servletRequest = new MockHttpServletRequest("GET", path);
+        request = new RequestAuthorizationContext(servletRequest);
+
+        PathPatternRequestMatcher.Builder match = PathPatternRequestMatcher.withDefaults();
+        RequestMatcherDelegatingAuthorizationManager.Builder list = RequestMatcherDelegatingAuthorizationManager.builder()
+                .add(match.matcher("/api/auth/**"), PERMIT_ALL)
+                .add(match.matcher("/.well-known/jwks.json"), PERMIT_ALL);
+        RouteAuthorizationManager.Builder trie = RouteAuthorizationManager.builder()
+                .route(AccessRule.permitAll(), "/api/auth/**")
+                .route(AccessRule.permitAll(), "/.well-known/jwks.json");
+        for (int i = 0; i < routes - BASE_ROUTES; i++) {
+            list.add(match.matcher("/api/admin/module-" + i + "/**"), AuthorityAuthorizationManager.hasAnyRole("ADMIN"));
+            trie.route(AccessRule.hasAnyRole("ADMIN"), "/api/admin/module-" + i + "/**");
+        }
+        requestMatchers = list
+                .add(match.matcher("/api/admin/**"), AuthorityAuthorizationManager.hasAnyRole("ADMIN", "SUPERADMIN"))
+                .add(match.matcher("/api/superadmin/**"), AuthorityAuthorizationManager.hasRole("SUPERADMIN"))
+                .add(match.matcher("/actuator/health/**"), PERMIT_ALL)
+                .add(match.matcher("/**"), AuthenticatedAuthorizationManager.authenticated())
+                .build();
+        routeTrie = trie
+                .route(AccessRule.hasAnyRole("ADMIN", "SUPERADMIN"), "/api/admin/**")
+                .route(AccessRule.hasAnyRole("SUPERADMIN"), "/api/superadmin/**")
+                .route(AccessRule.permitAll(), "/actuator/health/**")
+                .route(AccessRule.authenticated(), "/**")
+                .build();
+
+        Handlers handlers = new Handlers();
+        preAuthorizeCall = new SimpleMethodInvocation(handlers, Handlers.class.getMethod("preAuthorized"));
+        requiresPermissionCall = new SimpleMethodInvocation(handlers, Handlers.class.getMethod("permissionChecked"));
+    }
+
+    @Benchmark
+    public Object urlRequestMatchers() {
+        return requestMatchers.authorize(authentication, servletRequest);
+    }
+
+    @Benchmark
+    public Object urlRouteTrie() {
+        return routeTrie.authorize(authentication, request);
+    }
+
+    @Benchmark
+    public Object methodPreAuthorize() {
+        return preAuthorize.authorize(authentication, preAuthorizeCall);
+    }
+
+    @Benchmark
+    public Object methodRequiresPermission() {
+        return requiresPermission.authorize(authentication, requiresPermissionCall);
+    }
+
+    public static class Handlers {
+
+        @PreAuthorize("hasAuthority('PERM_USERS') or hasAuthority('PERM_ALL')")
+        public void preAuthorized() {
+        }
+
+        @RequiresPermission("users")
+        public void permissionChecked() {
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.monochrome.Backend.benchmark;
+
+import com.monochrome.Backend.BackendApplication;
+import com.monochrome.Backend.dto.UserAuthView;
+import com.monochrome.Backend.entity.Permission;
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.repository.PermissionRepository;
+import com.monochrome.Backend.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Boots the application once per benchmark fork against the embedded H2 "test" profile and seeds one admin
+ * user with a handful of permissions.
+ */
+final class BenchmarkContext {
+
+    static final String USERNAME = "bench-admin";
+    static final String PASSWORD = "bench-password";
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkContext() {
+    }
+
+    static synchronized ConfigurableApplicationContext get(String... extraProperties) {
+        if (context == null) {
+            context = new SpringApplicationBuilder(BackendApplication.class)
+                    .profiles("test")
+                    .properties("server.port=0", "logging.level.root=WARN", "app.auth.throttle.enabled=false")
+                    .properties(extraProperties)
+                    .run();
+            seed(context);
+        }
+        return context;
+    }
+
+    static synchronized void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    static UserAuthView user() {
+        return UserAuthView.fromRows(get().getBean(UserRepository.class).findAuthRowsByUsername(USERNAME)).orElseThrow();
+    }
+
+    private static void seed(ConfigurableApplicationContext ctx) {
+        PermissionRepository permissions = ctx.getBean(PermissionRepository.class);
+        Set<Permission> granted = new HashSet<>();
+        for (String name : List.of("appointments", "services", "users", "analytics", "settings")) {
+            granted.add(permissions.findByName(name)
+                    .orElseGet(() -> permissions.save(Permission.builder().name(name).build())));
+        }
+        UserRepository users = ctx.getBean(UserRepository.class);
+        if (!users.existsByUsername(USERNAME)) {
+            users.save(User.builder()
+                    .username(USERNAME)
+                    .email(USERNAME + "@gov.lk")
+                    .password(new BCryptPasswordEncoder().encode(PASSWORD))
+                    .name("Benchmark Admin")
+                    .department("Land Registry Department")
+                    .role(Role.ADMIN)
+                    .permissions(granted)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.monochrome.Backend.benchmark;
+
+import com.monochrome.Backend.entity.Permission;
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.repository.PermissionRepository;
+import com.monochrome.Backend.security.AuthMetrics;
+import com.monochrome.Backend.security.HmacJwtKeys;
+import com.monochrome.Backend.security.JwtService;
+import com.monochrome.Backend.security.PermissionCatalog;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token minting and verification. {@code verifiedCacheSize=0} measures the full HMAC + decode path,
+ * the non-zero case measures the verified-token cache hit path. {@code permissionCount} checks that token
+ * size and cost stay flat as a user accumulates permissions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    @Param({"0", "10000"})
+    public long verifiedCacheSize;
+
+    @Param({"5", "50"})
+    public int permissionCount;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        List<Permission> catalog = new ArrayList<>();
+        for (long id = 1; id <= permissionCount; id++) {
+            catalog.add(Permission.builder().id(id).name("permission-" + id).build());
+        }
+        PermissionRepository permissionRepository = Mockito.mock(PermissionRepository.class);
+        Mockito.when(permissionRepository.findAll()).thenReturn(catalog);
+        jwtService = new JwtService(new AuthMetrics(new SimpleMeterRegistry()),
+                new PermissionCatalog(permissionRepository, 1000),
+                new HmacJwtKeys("my-super-secret-key-that-is-at-least-32-characters"), 15, 7, verifiedCacheSize);
+        Set<Permission> permissions = new HashSet<>(catalog);
+        user = User.builder()
+                .id(2L)
+                .username("admin")
+                .email("admin@gov.lk")
+                .name("System Administrator")
+                .role(Role.ADMIN)
+                .permissions(permissions)
+                .build();
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtService.parseToken(token);
+    }
+}
@@ -0,0 +1,91 @@
+package com.monochrome.Backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * End-to-end HTTP load against an embedded server: a few clients logging in (BCrypt + token insert) while
+ * many more poll {@code /api/auth/me}. Compare {@code threads=platform} with {@code threads=virtual};
+ * the virtual case needs a JDK 21+ runtime and fails fast otherwise. Override client counts with {@code -tg}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ThreadingModelBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private HttpClient client;
+    private URI loginUri;
+    private URI meUri;
+    private String loginBody;
+    private String bearer;
+
+    @Setup
+    public void setup() throws IOException, InterruptedException {
+        boolean virtual = "virtual".equals(threads);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need a JDK 21+ runtime, found " + Runtime.version());
+        }
+        ConfigurableApplicationContext ctx = BenchmarkContext.get("spring.threads.virtual.enabled=" + virtual);
+        int port = ((WebServerApplicationContext) ctx).getWebServer().getPort();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        loginUri = URI.create("http://localhost:" + port + "/api/auth/login");
+        meUri = URI.create("http://localhost:" + port + "/api/auth/me");
+        loginBody = "{\"username\":\"" + BenchmarkContext.USERNAME
+                + "\",\"password\":\"" + BenchmarkContext.PASSWORD + "\"}";
+
+        Matcher m = TOKEN.matcher(login());
+        if (!m.find()) {
+            throw new IllegalStateException("Login did not return an access token");
+        }
+        bearer = "Bearer " + m.group(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(8)
+    public String login() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(loginUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(loginBody))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(248)
+    public String me() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(meUri)
+                .header("Authorization", bearer)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
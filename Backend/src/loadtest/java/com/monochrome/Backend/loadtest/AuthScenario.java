@@ -0,0 +1,105 @@
+package com.monochrome.Backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Builds the HTTP request for an operation and applies the response to the session: tokens from login and
+ * refresh, the {@code /me} ETag for the next conditional request, and a cleared session after logout or a
+ * rejected token.
+ */
+final class AuthScenario {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final URI baseUrl;
+    private final String password;
+    private final Duration timeout;
+
+    AuthScenario(URI baseUrl, String password, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.password = password;
+        this.timeout = timeout;
+    }
+
+    HttpRequest request(Operation operation, Session session) throws IOException {
+        return switch (operation) {
+            case LOGIN -> json("/api/auth/login", Map.of("username", session.username, "password", password)).build();
+            case REFRESH -> json("/api/auth/refresh", Map.of("refreshToken", session.refreshToken)).build();
+            case LOGOUT -> authorized("/api/auth/logout", session)
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+            case ME -> {
+                HttpRequest.Builder builder = authorized("/api/auth/me", session).GET();
+                if (session.meETag != null) {
+                    builder.header("If-None-Match", session.meETag);
+                }
+                yield builder.build();
+            }
+            case ADMIN -> authorized("/api/admin/users?size=20", session).GET().build();
+            case SUPERADMIN -> authorized("/api/superadmin/demo", session).GET().build();
+        };
+    }
+
+    /**
+     * @return whether the response counts as a success
+     */
+    boolean apply(Operation operation, Session session, HttpResponse<String> response) throws IOException {
+        int status = response.statusCode();
+        switch (operation) {
+            case LOGIN, REFRESH -> {
+                if (status == 200) {
+                    JsonNode body = mapper.readTree(response.body());
+                    session.accessToken = body.path("token").asText(null);
+                    session.refreshToken = body.path("refreshToken").asText(null);
+                    session.meETag = null;
+                    return session.accessToken != null;
+                }
+                if (operation == Operation.REFRESH && status == 401) {
+                    session.clear();
+                }
+                return false;
+            }
+            case LOGOUT -> {
+                session.clear();
+                return status == 204;
+            }
+            case ME -> {
+                if (status == 200) {
+                    session.meETag = response.headers().firstValue("ETag").orElse(null);
+                }
+                return clearIfRejected(session, status) && (status == 200 || status == 304);
+            }
+            default -> {
+                return clearIfRejected(session, status) && status == 200;
+            }
+        }
+    }
+
+    private static boolean clearIfRejected(Session session, int status) {
+        if (status == 401) {
+            // expired or revoked; the next call on this session logs in again
+            session.clear();
+            return false;
+        }
+        return true;
+    }
+
+    private HttpRequest.Builder json(String path, Map<String, String> body) throws IOException {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+    }
+
+    private HttpRequest.Builder authorized(String path, Session session) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + session.accessToken);
+    }
+}
@@ -0,0 +1,92 @@
+package com.monochrome.Backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms (successful calls, measured from the scheduled arrival time so queueing
+ * in the client or server is included) and error counts by cause.
+ */
+final class LatencyReport {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errorCounts = new EnumMap<>(Operation.class);
+    private final ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(MAX_MICROS, 3));
+            errorCounts.put(operation, new LongAdder());
+        }
+    }
+
+    void success(Operation operation, long latencyNanos) {
+        latencies.get(operation).recordValue(Math.min(MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+    }
+
+    void error(Operation operation, String cause) {
+        errorCounts.get(operation).increment();
+        errors.computeIfAbsent(operation.key() + ": " + cause, k -> new LongAdder()).increment();
+    }
+
+    void print(PrintStream out, double offeredRate, double seconds) {
+        out.printf("%nOffered rate %.1f/s over %.0f s%n%n", offeredRate, seconds);
+        out.printf("%-11s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "ok", "errors", "ok/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(MAX_MICROS, 3);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            long failed = errorCounts.get(operation).sum();
+            if (histogram.getTotalCount() == 0 && failed == 0) {
+                continue;
+            }
+            total.add(histogram);
+            totalErrors += failed;
+            row(out, operation.key(), histogram, failed, seconds);
+        }
+        row(out, "total", total, totalErrors, seconds);
+        if (!errors.isEmpty()) {
+            out.printf("%nErrors%n");
+            new TreeMap<>(errors).forEach((cause, count) -> out.printf("  %-50s %9d%n", cause, count.sum()));
+        }
+    }
+
+    private static void row(PrintStream out, String name, Histogram h, long failed, double seconds) {
+        out.printf("%-11s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, h.getTotalCount(), failed,
+                h.getTotalCount() / seconds, ms(h, 50), ms(h, 90), ms(h, 99), ms(h, 99.9), h.getMaxValue() / 1000.0);
+    }
+
+    private static double ms(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Writes one {@code <operation>.hgrm} percentile distribution per operation, in milliseconds, for plotting.
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Operation, Histogram> entry : latencies.entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(directory.resolve(entry.getKey().key() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+}
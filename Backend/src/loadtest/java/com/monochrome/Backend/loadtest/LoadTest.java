@@ -0,0 +1,187 @@
+package com.monochrome.Backend.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for the auth API: requests arrive at a fixed average rate whether or not earlier
+ * ones have completed, so a slow server shows up as growing latency instead of a lower request rate. Each
+ * arrival picks an operation from the mix and an idle simulated session; latency is taken from the scheduled
+ * arrival time.
+ * <p>
+ * Run the backend with {@code mvn -Plocal spring-boot:run}, then
+ * {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--rate=200 --duration=60"}.
+ */
+public final class LoadTest {
+
+    private static final int SESSION_PICK_ATTEMPTS = 8;
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final AuthScenario scenario;
+    private final LatencyReport report = new LatencyReport();
+    private final Semaphore inFlight;
+    private final SplittableRandom random;
+    private final Session[] admins;
+    private final Session[] superAdmins;
+    private final Operation[] mixTable;
+
+    LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.scenario = new AuthScenario(options.baseUrl(), options.password(), options.requestTimeout());
+        this.inFlight = new Semaphore(options.maxInFlight());
+        this.random = new SplittableRandom(options.seed());
+        this.admins = sessions(options.adminPrefix(), options.admins());
+        this.superAdmins = sessions(options.superAdminPrefix(), options.superAdmins());
+        this.mixTable = mixTable(options.mix());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        new LoadTest(options).run();
+    }
+
+    void run() throws InterruptedException, IOException {
+        System.out.printf("%s: %.1f/s, %s warmup, %s measured, mix %s, seed %d%n", options.baseUrl(), options.rate(),
+                options.warmup(), options.duration(), options.mix(), options.seed());
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long meanGapNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+
+        long scheduled = start;
+        while (scheduled < end) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            dispatch(scheduled, scheduled >= measureFrom);
+            scheduled += options.poisson()
+                    ? (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos)
+                    : meanGapNanos;
+        }
+
+        // let in-flight calls finish; anything still out after the timeout is abandoned
+        long drainSeconds = options.requestTimeout().toSeconds() + 1;
+        if (inFlight.tryAcquire(options.maxInFlight(), drainSeconds, TimeUnit.SECONDS)) {
+            inFlight.release(options.maxInFlight());
+        }
+        report.print(System.out, options.rate(), options.duration().toNanos() / 1e9);
+        report.write(options.outputDir());
+        System.out.printf("%nPercentile distributions written to %s%n", options.outputDir().toAbsolutePath());
+        System.exit(0);
+    }
+
+    private void dispatch(long scheduledNanos, boolean measured) {
+        Operation picked = mixTable[random.nextInt(mixTable.length)];
+        // superadmin calls need a SUPERADMIN account; everything else runs on the ADMIN accounts
+        Session session = idleSession(picked == Operation.SUPERADMIN ? superAdmins : admins);
+        if (session == null) {
+            failure(picked, "no idle session", measured);
+            return;
+        }
+        if (!inFlight.tryAcquire()) {
+            session.busy.set(false);
+            failure(picked, "dropped, " + options.maxInFlight() + " already in flight", measured);
+            return;
+        }
+        boolean needsLogin = (picked != Operation.LOGIN && !session.loggedIn())
+                || (picked == Operation.REFRESH && session.refreshToken == null);
+        Operation operation = needsLogin ? Operation.LOGIN : picked;
+
+        HttpRequest request;
+        try {
+            request = scenario.request(operation, session);
+        } catch (IOException e) {
+            release(session);
+            failure(operation, e.getClass().getSimpleName(), measured);
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            long latency = System.nanoTime() - scheduledNanos;
+            try {
+                if (error != null) {
+                    failure(operation, cause(error), measured);
+                } else if (scenario.apply(operation, session, response)) {
+                    if (measured) {
+                        report.success(operation, latency);
+                    }
+                } else {
+                    failure(operation, "HTTP " + response.statusCode(), measured);
+                }
+            } catch (IOException | RuntimeException e) {
+                failure(operation, e.getClass().getSimpleName(), measured);
+            } finally {
+                release(session);
+            }
+        });
+    }
+
+    private Session idleSession(Session[] pool) {
+        for (int attempt = 0; attempt < SESSION_PICK_ATTEMPTS; attempt++) {
+            Session session = pool[random.nextInt(pool.length)];
+            if (session.busy.compareAndSet(false, true)) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private void release(Session session) {
+        session.busy.set(false);
+        inFlight.release();
+    }
+
+    private void failure(Operation operation, String cause, boolean measured) {
+        if (measured) {
+            report.error(operation, cause);
+        }
+    }
+
+    private static String cause(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof HttpTimeoutException ? "timeout" : cause.getClass().getSimpleName();
+    }
+
+    private static Session[] sessions(String prefix, int count) {
+        Session[] sessions = new Session[count];
+        for (int i = 0; i < count; i++) {
+            sessions[i] = new Session(prefix + (i + 1));
+        }
+        return sessions;
+    }
+
+    private static Operation[] mixTable(Map<Operation, Integer> mix) {
+        List<Operation> table = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(operation);
+            }
+        });
+        return table.toArray(Operation[]::new);
+    }
+}
@@ -0,0 +1,115 @@
+package com.monochrome.Backend.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options, all {@code --name=value}. Defaults target {@code mvn -Plocal spring-boot:run} and the
+ * users it seeds.
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        boolean poisson,
+        String adminPrefix,
+        int admins,
+        String superAdminPrefix,
+        int superAdmins,
+        String password,
+        int maxInFlight,
+        Duration requestTimeout,
+        Path outputDir,
+        long seed
+) {
+
+    static final String USAGE = """
+            Options (--name=value):
+              --base-url=http://localhost:8080   backend under test
+              --rate=100                          arrivals per second (open model)
+              --arrivals=poisson                  poisson | uniform inter-arrival times
+              --warmup=10                         seconds sent but not measured
+              --duration=60                       measured seconds
+              --mix=login=5,refresh=10,logout=5,me=55,admin=20,superadmin=5
+              --admin-prefix=load-admin- --admins=200
+              --superadmin-prefix=load-super- --superadmins=10
+              --password=loadtest-pass
+              --max-in-flight=1000                arrivals beyond this are counted as dropped
+              --timeout=10                        request timeout in seconds
+              --output=target/loadtest            HdrHistogram percentile files per operation
+              --seed=<random>
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                URI.create(stripSlash(values.getOrDefault("base-url", "http://localhost:8080"))),
+                Double.parseDouble(values.getOrDefault("rate", "100")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                mix(values.getOrDefault("mix", "login=5,refresh=10,logout=5,me=55,admin=20,superadmin=5")),
+                !"uniform".equals(values.getOrDefault("arrivals", "poisson")),
+                values.getOrDefault("admin-prefix", "load-admin-"),
+                Integer.parseInt(values.getOrDefault("admins", "200")),
+                values.getOrDefault("superadmin-prefix", "load-super-"),
+                Integer.parseInt(values.getOrDefault("superadmins", "10")),
+                values.getOrDefault("password", "loadtest-pass"),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "1000")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout", "10"))),
+                Path.of(values.getOrDefault("output", "target/loadtest")),
+                values.containsKey("seed") ? Long.parseLong(values.get("seed")) : System.nanoTime());
+        values.keySet().removeAll(Set.of("base-url", "rate", "warmup", "duration", "mix", "arrivals",
+                "admin-prefix", "admins", "superadmin-prefix", "superadmins", "password", "max-in-flight",
+                "timeout", "output", "seed"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown option(s) " + values.keySet());
+        }
+        if (options.rate <= 0 || options.admins <= 0 || options.maxInFlight <= 0) {
+            throw new IllegalArgumentException("--rate, --admins and --max-in-flight must be positive");
+        }
+        if (options.mix.getOrDefault(Operation.SUPERADMIN, 0) > 0 && options.superAdmins <= 0) {
+            throw new IllegalArgumentException("The mix has superadmin calls but --superadmins is 0");
+        }
+        return options;
+    }
+
+    private static Map<Operation, Integer> mix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry '" + part + "', expected operation=weight");
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + kv[0]);
+            }
+            mix.put(Operation.fromKey(kv[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("The mix has no operations");
+        }
+        return mix;
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
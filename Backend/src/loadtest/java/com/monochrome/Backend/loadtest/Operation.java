@@ -0,0 +1,33 @@
+package com.monochrome.Backend.loadtest;
+
+/**
+ * Calls the load generator mixes. Everything except {@link #LOGIN} needs a logged-in session; when the session
+ * picked for one has no tokens it logs in instead.
+ */
+enum Operation {
+    LOGIN("login"),
+    REFRESH("refresh"),
+    LOGOUT("logout"),
+    ME("me"),
+    ADMIN("admin"),
+    SUPERADMIN("superadmin");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+}
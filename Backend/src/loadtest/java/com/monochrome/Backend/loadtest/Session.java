@@ -0,0 +1,30 @@
+package com.monochrome.Backend.loadtest;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One simulated client: an account and the tokens it currently holds. A session runs one call at a time; the
+ * fields are only touched by whoever holds {@link #busy}.
+ */
+final class Session {
+
+    final String username;
+    final AtomicBoolean busy = new AtomicBoolean();
+    String accessToken;
+    String refreshToken;
+    String meETag;
+
+    Session(String username) {
+        this.username = username;
+    }
+
+    boolean loggedIn() {
+        return accessToken != null;
+    }
+
+    void clear() {
+        accessToken = null;
+        refreshToken = null;
+        meETag = null;
+    }
+}
@@ -0,0 +1,20 @@
+-- Users for the local profile and the load-test harness (H2 only). Password for all: loadtest-pass
+--   load-admin-1 .. load-admin-200   ADMIN with every permission except 'all'
+--   load-super-1 .. load-super-10    SUPERADMIN with 'all'
+insert into users (username, email, password, name, department, role, enabled, created_at, version)
+select 'load-admin-' || "X", 'load-admin-' || "X" || '@gov.lk',
+       '$2a$10$eM6LAm5/vm.wbZhNt9TXO.2BxaRDSwGTeDlFdctUeleGwmePe3PCa',
+       'Load Admin ' || "X", 'Load Test Department', 'ADMIN', true, current_timestamp, 0
+from system_range(1, 200);
+
+insert into users (username, email, password, name, department, role, enabled, created_at, version)
+select 'load-super-' || "X", 'load-super-' || "X" || '@gov.lk',
+       '$2a$10$eM6LAm5/vm.wbZhNt9TXO.2BxaRDSwGTeDlFdctUeleGwmePe3PCa',
+       'Load Super Admin ' || "X", 'Administration', 'SUPERADMIN', true, current_timestamp, 0
+from system_range(1, 10);
+
+insert into user_permissions (user_id, permission_id)
+select u.id, p.id
+from users u
+join permissions p on (u.role = 'ADMIN' and p.name <> 'all') or (u.role = 'SUPERADMIN' and p.name = 'all')
+where u.username like 'load-%';
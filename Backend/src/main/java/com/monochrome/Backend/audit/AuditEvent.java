@@ -0,0 +1,12 @@
+package com.monochrome.Backend.audit;
+
+import com.monochrome.Backend.security.AuthMetrics;
+
+/**
+ * An authentication event as queued for the audit sink. {@code username} and {@code clientIp} may be null.
+ */
+public record AuditEvent(long timestampMillis, Type type, AuthMetrics.Outcome outcome, String username,
+                         String clientIp) {
+
+    public enum Type { LOGIN, REFRESH, LOGOUT, ACCESS_TOKEN, SESSION_REVOKE }
+}
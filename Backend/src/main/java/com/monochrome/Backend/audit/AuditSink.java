@@ -0,0 +1,16 @@
+package com.monochrome.Backend.audit;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Durable destination for audit batches. Only the audit writer thread calls it, so implementations need not
+ * be thread-safe.
+ */
+public interface AuditSink {
+
+    void write(List<AuditEvent> batch) throws IOException;
+
+    default void close() throws IOException {
+    }
+}
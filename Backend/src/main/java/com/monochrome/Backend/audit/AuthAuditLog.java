@@ -0,0 +1,158 @@
+package com.monochrome.Backend.audit;
+
+import com.monochrome.Backend.security.AuthMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Authentication audit trail. {@link #record} puts the event in a lock-free {@link RingBuffer} and returns;
+ * a single writer thread hands batches to the configured {@link AuditSink} once {@code batch-size} events
+ * are waiting or the oldest has waited {@code flush-interval-ms}.
+ * <p>
+ * When the buffer is full, {@code overflow=drop} discards the event and counts it in
+ * {@code auth.audit.events{result=dropped}}; {@code overflow=block} makes the caller wait for space. Events
+ * still buffered at shutdown are written before the context closes.
+ */
+@Slf4j
+@Service
+public class AuthAuditLog {
+
+    public enum Overflow { DROP, BLOCK }
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final AuditSink sink;
+    private final boolean enabled;
+    private final Overflow overflow;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final RingBuffer<AuditEvent> buffer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AuthAuditLog(
+            AuditSink sink,
+            MeterRegistry registry,
+            @Value("${app.audit.enabled:true}") boolean enabled,
+            @Value("${app.audit.overflow:drop}") String overflow,
+            @Value("${app.audit.buffer-size:8192}") int bufferSize,
+            @Value("${app.audit.batch-size:200}") int batchSize,
+            @Value("${app.audit.flush-interval-ms:500}") long flushIntervalMs
+    ) {
+        this.sink = sink;
+        this.enabled = enabled;
+        this.overflow = Overflow.valueOf(overflow.trim().toUpperCase());
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.buffer = new RingBuffer<>(bufferSize);
+        this.written = events(registry, "written");
+        this.dropped = events(registry, "dropped");
+        this.failed = events(registry, "failed");
+        Gauge.builder("auth.audit.buffer.depth", buffer, RingBuffer::size)
+                .description("Audit events waiting for the writer")
+                .register(registry);
+        this.writer = new Thread(this::runWriter, "auth-audit-writer");
+        writer.setDaemon(true);
+        if (enabled) {
+            writer.start();
+        }
+    }
+
+    public void record(AuditEvent.Type type, AuthMetrics.Outcome outcome, String username) {
+        if (!enabled) {
+            return;
+        }
+        AuditEvent event = new AuditEvent(System.currentTimeMillis(), type, outcome, username, clientIp());
+        long position = buffer.offer(event);
+        while (position < 0) {
+            if (overflow == Overflow.DROP || !running) {
+                dropped.increment();
+                return;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            position = buffer.offer(event);
+        }
+        if ((position + 1) % batchSize == 0) {
+            // a full batch is probably waiting; don't leave it until the interval lapses
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void runWriter() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long batchStarted = 0;
+        while (running || buffer.size() > 0) {
+            boolean wasEmpty = batch.isEmpty();
+            buffer.drainTo(batch, batchSize - batch.size());
+            long now = System.nanoTime();
+            if (wasEmpty && !batch.isEmpty()) {
+                batchStarted = now;
+            }
+            if (batch.size() >= batchSize || (!batch.isEmpty() && now - batchStarted >= flushIntervalNanos)) {
+                write(batch);
+                batch.clear();
+            } else if (running) {
+                LockSupport.parkNanos(this, batch.isEmpty()
+                        ? flushIntervalNanos
+                        : flushIntervalNanos - (now - batchStarted));
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            sink.write(batch);
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} audit events", batch.size(), e);
+        }
+    }
+
+    private static String clientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            HttpServletRequest request = servlet.getRequest();
+            return request.getRemoteAddr();
+        }
+        return null;
+    }
+
+    private static Counter events(MeterRegistry registry, String result) {
+        return Counter.builder("auth.audit.events")
+                .description("Audit events by what happened to them")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        running = false;
+        if (writer.isAlive()) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        sink.close();
+    }
+}
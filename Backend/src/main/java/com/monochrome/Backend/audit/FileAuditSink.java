@@ -0,0 +1,109 @@
+package com.monochrome.Backend.audit;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Appends one JSON object per event to a local file. When the file passes {@code max-bytes} it is renamed to
+ * {@code .1} (shifting older files up to {@code .max-files}) and a new one is started.
+ */
+@Component
+@ConditionalOnProperty(name = "app.audit.sink", havingValue = "file")
+public class FileAuditSink implements AuditSink {
+
+    private final Path path;
+    private final long maxBytes;
+    private final int maxFiles;
+    private BufferedWriter out;
+    private long size;
+
+    public FileAuditSink(
+            @Value("${app.audit.file.path:logs/auth-audit.log}") String path,
+            @Value("${app.audit.file.max-bytes:10485760}") long maxBytes,
+            @Value("${app.audit.file.max-files:5}") int maxFiles
+    ) {
+        this.path = Path.of(path);
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    @Override
+    public void write(List<AuditEvent> batch) throws IOException {
+        if (out == null) {
+            open();
+        }
+        StringBuilder lines = new StringBuilder(batch.size() * 128);
+        for (AuditEvent event : batch) {
+            lines.append("{\"occurredAt\":\"").append(Instant.ofEpochMilli(event.timestampMillis()))
+                    .append("\",\"type\":\"").append(event.type())
+                    .append("\",\"outcome\":\"").append(event.outcome())
+                    .append("\",\"username\":");
+            appendString(lines, event.username());
+            lines.append(",\"clientIp\":");
+            appendString(lines, event.clientIp());
+            lines.append("}\n");
+        }
+        String text = lines.toString();
+        out.write(text);
+        out.flush();
+        size += text.getBytes(StandardCharsets.UTF_8).length;
+        if (size >= maxBytes) {
+            rotate();
+        }
+    }
+
+    private void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        out = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(path);
+    }
+
+    private void rotate() throws IOException {
+        close();
+        Files.deleteIfExists(rotated(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            if (Files.exists(rotated(i))) {
+                Files.move(rotated(i), rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    private Path rotated(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+        } else {
+            sb.append('"');
+            JsonStringEncoder.getInstance().quoteAsString(value, sb);
+            sb.append('"');
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.monochrome.Backend.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Appends each batch to {@code auth_audit_log} as one JDBC batch in one transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "app.audit.sink", havingValue = "jdbc", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JdbcAuditSink implements AuditSink {
+
+    private static final String INSERT_SQL = "INSERT INTO auth_audit_log "
+            + "(occurred_at, event_type, outcome, username, client_ip) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void write(List<AuditEvent> batch) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(),
+                (ps, event) -> {
+                    ps.setTimestamp(1, new Timestamp(event.timestampMillis()));
+                    ps.setString(2, event.type().name());
+                    ps.setString(3, event.outcome().name());
+                    ps.setString(4, event.username());
+                    ps.setString(5, event.clientIp());
+                }));
+    }
+}
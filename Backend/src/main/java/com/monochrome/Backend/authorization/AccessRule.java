@@ -0,0 +1,108 @@
+package com.monochrome.Backend.authorization;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monochrome.Backend.security.InternedUser;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * One compiled access requirement. Authority checks are cached per interned authority set (see
+ * {@link InternedUser}): the cache holds its keys weakly and compares them by identity, so every request
+ * carrying the same set reuses one decision and entries go away with the catalog snapshot that built them.
+ */
+public final class AccessRule {
+
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private static final AccessRule PERMIT_ALL = new AccessRule("permitAll", false, null);
+    private static final AccessRule DENY_ALL = new AccessRule("denyAll", true, Set.of());
+    private static final AccessRule AUTHENTICATED = new AccessRule("authenticated", true, null);
+
+    private final String description;
+    private final boolean requiresAuthentication;
+    // null when authentication alone is enough
+    private final Set<String> anyOf;
+    private final Cache<Set<GrantedAuthority>, Boolean> decisions;
+
+    private AccessRule(String description, boolean requiresAuthentication, Set<String> anyOf) {
+        this.description = description;
+        this.requiresAuthentication = requiresAuthentication;
+        this.anyOf = anyOf;
+        this.decisions = anyOf == null || anyOf.isEmpty() ? null : Caffeine.newBuilder().weakKeys().build();
+    }
+
+    public static AccessRule permitAll() {
+        return PERMIT_ALL;
+    }
+
+    public static AccessRule denyAll() {
+        return DENY_ALL;
+    }
+
+    public static AccessRule authenticated() {
+        return AUTHENTICATED;
+    }
+
+    public static AccessRule hasAnyRole(String... roles) {
+        return anyAuthority("hasAnyRole" + Arrays.toString(roles), Arrays.stream(roles).map(role -> "ROLE_" + role));
+    }
+
+    /**
+     * Any of the named permissions, or the {@code all} permission.
+     */
+    public static AccessRule hasAnyPermission(String... names) {
+        return anyAuthority("hasAnyPermission" + Arrays.toString(names),
+                Stream.concat(Arrays.stream(names), Stream.of("all")).map(name -> "PERM_" + name.toUpperCase()));
+    }
+
+    private static AccessRule anyAuthority(String description, Stream<String> authorities) {
+        return new AccessRule(description, true, authorities.collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public AuthorizationDecision decide(Supplier<Authentication> authentication) {
+        if (anyOf != null && anyOf.isEmpty()) {
+            return DENIED;
+        }
+        if (!requiresAuthentication) {
+            return GRANTED;
+        }
+        Authentication auth = authentication.get();
+        if (auth == null || !auth.isAuthenticated() || TRUST_RESOLVER.isAnonymous(auth)) {
+            return DENIED;
+        }
+        if (anyOf == null) {
+            return GRANTED;
+        }
+        boolean allowed = auth.getPrincipal() instanceof InternedUser user
+                ? decisions.get(user.getAuthoritySet(), this::allows)
+                : allows(auth.getAuthorities());
+        return allowed ? GRANTED : DENIED;
+    }
+
+    private boolean allows(Collection<? extends GrantedAuthority> authorities) {
+        for (GrantedAuthority authority : authorities) {
+            if (anyOf.contains(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,54 @@
+package com.monochrome.Backend.authorization;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Method authorization for {@link RequiresPermission}. The annotation is resolved once per method and target
+ * class into an {@link AccessRule}; after that a call costs a map lookup and the rule's cached decision.
+ */
+public final class PermissionMethodAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private final Map<MethodClassKey, AccessRule> rules = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return decide(authentication, invocation);
+    }
+
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return decide(authentication, invocation);
+    }
+
+    private AuthorizationDecision decide(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : method.getDeclaringClass();
+        return rules.computeIfAbsent(new MethodClassKey(method, targetClass), key -> resolve(method, targetClass))
+                .decide(authentication);
+    }
+
+    private static AccessRule resolve(Method method, Class<?> targetClass) {
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+        RequiresPermission required = AnnotatedElementUtils.findMergedAnnotation(specific, RequiresPermission.class);
+        if (required == null) {
+            required = AnnotatedElementUtils.findMergedAnnotation(targetClass, RequiresPermission.class);
+        }
+        // only annotated methods are intercepted, so this is just a guard
+        return required != null ? AccessRule.hasAnyPermission(required.value()) : AccessRule.permitAll();
+    }
+}
@@ -0,0 +1,20 @@
+package com.monochrome.Backend.authorization;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts a handler method, or every method of a class, to callers holding at least one of the named
+ * permissions ({@code permissions.name}, checked as {@code PERM_<NAME>}). The {@code all} permission satisfies
+ * every rule. Evaluated by {@link PermissionMethodAuthorizationManager} without SpEL.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RequiresPermission {
+
+    String[] value();
+}
@@ -0,0 +1,69 @@
+package com.monochrome.Backend.authorization;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.function.Supplier;
+
+/**
+ * URL authorization from rules compiled into a {@link RouteTrie}, replacing an ordered list of
+ * {@code requestMatchers} that is scanned on every request. Unlike that list, the most specific pattern wins
+ * regardless of the order the rules were added in; a path matching no pattern is denied.
+ */
+public final class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final RouteTrie routes;
+
+    private RouteAuthorizationManager(RouteTrie routes) {
+        this.routes = routes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication, context);
+    }
+
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return decide(authentication, context);
+    }
+
+    private AuthorizationDecision decide(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        // decoded, so an encoded character cannot steer the path past a more specific rule
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(context.getRequest());
+        return rule(path).decide(authentication);
+    }
+
+    AccessRule rule(String path) {
+        AccessRule rule = routes.match(path);
+        return rule != null ? rule : AccessRule.denyAll();
+    }
+
+    public static final class Builder {
+
+        private final RouteTrie routes = new RouteTrie();
+
+        private Builder() {
+        }
+
+        public Builder route(AccessRule rule, String... patterns) {
+            for (String pattern : patterns) {
+                routes.add(pattern, rule);
+            }
+            return this;
+        }
+
+        public RouteAuthorizationManager build() {
+            return new RouteAuthorizationManager(routes);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.monochrome.Backend.authorization;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Path patterns compiled into a trie of segments. A pattern segment is a literal, {@code *} (exactly one
+ * segment) or a trailing {@code **} (any number, including none). Lookup walks one node per path segment, so
+ * its cost depends on the path depth rather than the number of patterns. The most specific pattern wins:
+ * a literal segment over {@code *}, and either over {@code **}.
+ */
+final class RouteTrie {
+
+    private final Node root = new Node();
+
+    void add(String pattern, AccessRule rule) {
+        Node node = root;
+        int from = 0;
+        while (true) {
+            from = skipSlashes(pattern, from);
+            if (from == pattern.length()) {
+                if (node.rule != null) {
+                    throw new IllegalStateException("Duplicate route " + pattern);
+                }
+                node.rule = rule;
+                return;
+            }
+            int end = segmentEnd(pattern, from);
+            String segment = pattern.substring(from, end);
+            if (segment.equals("**")) {
+                if (skipSlashes(pattern, end) != pattern.length()) {
+                    throw new IllegalArgumentException("'**' must be the last segment: " + pattern);
+                }
+                if (node.rest != null) {
+                    throw new IllegalStateException("Duplicate route " + pattern);
+                }
+                node.rest = rule;
+                return;
+            }
+            if (segment.equals("*")) {
+                node = node.single != null ? node.single : (node.single = new Node());
+            } else if (segment.indexOf('*') >= 0) {
+                throw new IllegalArgumentException("Wildcards must span a whole segment: " + pattern);
+            } else {
+                node = node.literals.computeIfAbsent(segment, s -> new Node());
+            }
+            from = end;
+        }
+    }
+
+    /**
+     * @return the rule of the most specific matching pattern, or null if none matches
+     */
+    AccessRule match(String path) {
+        return match(root, path, 0);
+    }
+
+    private static AccessRule match(Node node, String path, int from) {
+        from = skipSlashes(path, from);
+        if (from == path.length()) {
+            return node.rule != null ? node.rule : node.rest;
+        }
+        int end = segmentEnd(path, from);
+        Node literal = node.literals.get(path.substring(from, end));
+        if (literal != null) {
+            AccessRule rule = match(literal, path, end);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        if (node.single != null) {
+            AccessRule rule = match(node.single, path, end);
+            if (rule != null) {
+                return rule;
+            }
+        }
+        return node.rest;
+    }
+
+    private static int skipSlashes(String s, int from) {
+        while (from < s.length() && s.charAt(from) == '/') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int segmentEnd(String s, int from) {
+        int end = s.indexOf('/', from);
+        return end < 0 ? s.length() : end;
+    }
+
+    private static final class Node {
+
+        final Map<String, Node> literals = new HashMap<>();
+        Node single;
+        // the rule for a pattern ending here, and for one ending in "**" here
+        AccessRule rule;
+        AccessRule rest;
+    }
+}
@@ -0,0 +1,23 @@
+package com.monochrome.Backend.config;
+
+import com.monochrome.Backend.security.LocalLoginThrottleBackend;
+import com.monochrome.Backend.security.LoginThrottleBackend;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class LoginThrottleConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.auth.throttle.backend", havingValue = "local", matchIfMissing = true)
+    public LoginThrottleBackend localLoginThrottleBackend(
+            @Value("${app.auth.throttle.max-keys:100000}") long maxKeys,
+            @Value("${app.auth.throttle.idle-minutes:15}") long idleMinutes
+    ) {
+        return new LocalLoginThrottleBackend(maxKeys, Duration.ofMinutes(idleMinutes));
+    }
+}
@@ -0,0 +1,86 @@
+package com.monochrome.Backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Active with {@code app.datasource.replicas.enabled=true}. The primary pool is built from
+ * {@code spring.datasource.*} as usual; each URL in {@code app.datasource.replicas.urls} gets a read-only pool
+ * of its own, configured from {@code spring.datasource.hikari.*} like the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private ReadReplicaRoutingDataSource routing;
+
+    @Bean
+    public DataSource dataSource(
+            DataSourceProperties properties,
+            Environment env,
+            @Value("${app.datasource.replicas.urls}") List<String> urls,
+            @Value("${app.datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${app.datasource.replicas.read-your-writes-ms:2000}") long readYourWritesMs
+    ) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        bindHikari(env, primary);
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i).trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            bindHikari(env, replica);
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            // fail fast so a dead replica costs one quick fallback to the primary, not a 30s wait
+            replica.setConnectionTimeout(Math.min(replica.getConnectionTimeout(), 2_000));
+            replicas.add(limit(env, replica));
+        }
+
+        routing = new ReadReplicaRoutingDataSource(limit(env, primary), replicas, Duration.ofMillis(readYourWritesMs));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Scheduled(initialDelayString = "${app.datasource.replicas.health-check-ms:5000}",
+            fixedDelayString = "${app.datasource.replicas.health-check-ms:5000}")
+    public void checkReplicas() {
+        if (routing != null) {
+            routing.checkReplicas();
+        }
+    }
+
+    private static void bindHikari(Environment env, HikariDataSource dataSource) {
+        Binder.get(env).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    }
+
+    // VirtualThreadConfig only wraps HikariDataSource beans; these pools are not beans, so gate them here
+    private static DataSource limit(Environment env, HikariDataSource pool) {
+        if (!Threading.VIRTUAL.isActive(env)) {
+            return pool;
+        }
+        long timeoutMs = env.getProperty("app.datasource.permit-timeout-ms", Long.class, 30_000L);
+        return new ConcurrencyLimitingDataSource(pool, pool.getMaximumPoolSize(), timeoutMs);
+    }
+}
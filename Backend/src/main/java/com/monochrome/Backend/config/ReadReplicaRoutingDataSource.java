@@ -0,0 +1,166 @@
+package com.monochrome.Backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica, round-robin, and everything else to the primary: writes,
+ * read-write transactions and work outside any transaction. An authenticated caller who committed a
+ * read-write transaction in the last {@code readYourWritesWindow} keeps reading from the primary, so
+ * replication lag cannot hide their own write from them. A replica whose connection fails is taken out of rotation until {@link #checkReplicas} finds it working.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: transaction managers fetch the connection before the
+ * read-only flag is visible, and the proxy defers the fetch to the first statement.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas = replicas.stream().map(ds -> new Replica("replica-" + targets.size(), ds)).toList();
+        this.replicas.forEach(r -> targets.put(r.key, r.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.recentWriters = Caffeine.newBuilder().expireAfterWrite(readYourWritesWindow).build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String caller = currentCaller();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (caller != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                rememberWrite(caller);
+            }
+            return PRIMARY;
+        }
+        if (caller != null && recentWriters.getIfPresent(caller) != null) {
+            return PRIMARY;
+        }
+        Replica replica = pickReplica();
+        return replica == null ? PRIMARY : replica.key;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return resolvedPrimary().getConnection();
+        }
+        Replica replica = replica(key);
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.healthy = false;
+            log.warn("Replica {} failed, reading from the primary until it recovers: {}", replica.key, e.getMessage());
+            return resolvedPrimary().getConnection();
+        }
+    }
+
+    /**
+     * Re-validates every replica; called on a schedule by {@link ReadReplicaConfig}.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(2);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.info("Replica {} is now {}", replica.key, healthy ? "healthy" : "unhealthy");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    public int healthyReplicas() {
+        return (int) replicas.stream().filter(r -> r.healthy).count();
+    }
+
+    private Replica pickReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void rememberWrite(String caller) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // the window starts when the write is committed, not when the transaction first touched the primary
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(caller, Boolean.TRUE);
+                }
+            });
+        } else {
+            recentWriters.put(caller, Boolean.TRUE);
+        }
+    }
+
+    private Replica replica(Object key) {
+        for (Replica replica : replicas) {
+            if (replica.key.equals(key)) {
+                return replica;
+            }
+        }
+        throw new IllegalStateException("Unknown replica " + key);
+    }
+
+    private DataSource resolvedPrimary() {
+        return getResolvedDefaultDataSource();
+    }
+
+    private static String currentCaller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static final class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
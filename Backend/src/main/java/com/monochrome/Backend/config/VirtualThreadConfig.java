@@ -0,0 +1,32 @@
+package com.monochrome.Backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Active when {@code spring.threads.virtual.enabled=true} on JDK 21+, where Tomcat and the application task
+ * executor run on virtual threads. JDBC access is then gated to the Hikari pool size.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor jdbcConcurrencyLimiter(Environment env) {
+        long timeoutMs = env.getProperty("app.datasource.permit-timeout-ms", Long.class, 30_000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConcurrencyLimitingDataSource(hikari, hikari.getMaximumPoolSize(), timeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
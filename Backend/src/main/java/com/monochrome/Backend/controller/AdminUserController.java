@@ -0,0 +1,42 @@
+package com.monochrome.Backend.controller;
+
+import com.monochrome.Backend.authorization.RequiresPermission;
+import com.monochrome.Backend.dto.UserPage;
+import com.monochrome.Backend.service.SessionService;
+import com.monochrome.Backend.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final UserService userService;
+    private final SessionService sessionService;
+
+    @GetMapping
+    public UserPage list(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + UserService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return userService.listUsers(role, department, enabled, cursor, size);
+    }
+
+    @DeleteMapping("/{username}/sessions")
+    @RequiresPermission("users")
+    public ResponseEntity<Void> revokeSessions(@PathVariable String username) {
+        return sessionService.revokeAllSessions(username)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
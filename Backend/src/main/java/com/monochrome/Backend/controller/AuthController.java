@@ -3,9 +3,12 @@ package com.monochrome.Backend.controller;
 import com.monochrome.Backend.dto.AuthRequest;
 import com.monochrome.Backend.dto.AuthResponse;
 import com.monochrome.Backend.dto.*;
+import com.monochrome.Backend.security.LoginThrottle;
 import com.monochrome.Backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,9 +21,12 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody @Valid AuthRequest req) {
+    public ResponseEntity<AuthResponse> login(@RequestBody @Valid AuthRequest req, HttpServletRequest request) {
+        // the client's address as forwarded by the proxy (server.forward-headers-strategy), not the proxy's own
+        loginThrottle.check(req.getUsername(), request.getRemoteAddr());
         return ResponseEntity.ok(authService.login(req));
     }
 
@@ -31,9 +37,10 @@ public class AuthController {
 
     @PostMapping("/logout")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void logout(@AuthenticationPrincipal UserDetails user) {
+    public void logout(@AuthenticationPrincipal UserDetails user,
+                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         if (user != null) {
-            authService.logout(user.getUsername());
+            authService.logout(user.getUsername(), authorization);
         }
     }
 }
@@ -0,0 +1,40 @@
+package com.monochrome.Backend.controller;
+
+import com.monochrome.Backend.security.JwksDocument;
+import com.monochrome.Backend.security.JwtKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+public class JwksController {
+
+    private final JwtKeys jwtKeys;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtKeys jwtKeys, @Value("${app.jwt.jwks.max-age-seconds:300}") long maxAgeSeconds) {
+        this.jwtKeys = jwtKeys;
+        // new keys are published well before they sign, so serving a stale set for a while is safe
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .cachePublic()
+                .staleWhileRevalidate(Duration.ofSeconds(maxAgeSeconds))
+                .staleIfError(Duration.ofHours(1));
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        JwksDocument jwks = jwtKeys.jwks();
+        if (jwks.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(jwks.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(jwks.etag()).cacheControl(cacheControl).body(jwks.json());
+    }
+}
@@ -0,0 +1,43 @@
+package com.monochrome.Backend.controller;
+
+import com.monochrome.Backend.dto.SessionDto;
+import com.monochrome.Backend.service.SessionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sessions")
+@RequiredArgsConstructor
+public class SessionController {
+
+    private final SessionService sessionService;
+
+    @GetMapping
+    public List<SessionDto> list(@AuthenticationPrincipal UserDetails user) {
+        return sessionService.listSessions(user.getUsername());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> revoke(@AuthenticationPrincipal UserDetails user, @PathVariable String id) {
+        return sessionService.revokeSession(user.getUsername(), id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void revokeAll(@AuthenticationPrincipal UserDetails user) {
+        sessionService.revokeAllSessions(user.getUsername());
+    }
+}
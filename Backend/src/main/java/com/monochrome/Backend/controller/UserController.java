@@ -3,9 +3,12 @@ package com.monochrome.Backend.controller;
 import com.monochrome.Backend.dto.UserDto;
 import com.monochrome.Backend.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -15,7 +18,17 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping("/me")
-    public UserDto me() {
-        return userService.getCurrentUser();
+    public ResponseEntity<UserDto> me(WebRequest request) {
+        String username = userService.currentUsername();
+        // unchanged user: 304 from the version cache, without loading the entity or writing JSON
+        String cachedETag = userService.eTag(username).orElse(null);
+        if (cachedETag != null && request.checkNotModified(cachedETag)) {
+            return null;
+        }
+        UserService.VersionedUser current = userService.loadUser(username);
+        return ResponseEntity.ok()
+                .eTag(current.eTag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(current.user());
     }
 }
@@ -0,0 +1,45 @@
+package com.monochrome.Backend.controller;
+
+import com.monochrome.Backend.dto.UserImportStatus;
+import com.monochrome.Backend.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/superadmin/users/import")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<UserImportStatus> importCsv(HttpServletRequest request) throws IOException {
+        return accepted(userImportService.submitCsv(request.getInputStream()));
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserImportStatus> importJson(HttpServletRequest request) throws IOException {
+        return accepted(userImportService.submitJson(request.getInputStream()));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<UserImportStatus> status(@PathVariable String jobId) {
+        return ResponseEntity.of(userImportService.status(jobId));
+    }
+
+    private static ResponseEntity<UserImportStatus> accepted(UserImportStatus status) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/superadmin/users/import/" + status.getJobId()))
+                .body(status);
+    }
+}
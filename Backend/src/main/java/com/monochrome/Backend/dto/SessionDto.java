@@ -0,0 +1,18 @@
+package com.monochrome.Backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * One login of a user: the refresh token family, identified by its family id, and its current token's times.
+ */
+@Value
+@Builder
+public class SessionDto {
+
+    String id;
+    Instant lastUsedAt;
+    Instant expiresAt;
+}
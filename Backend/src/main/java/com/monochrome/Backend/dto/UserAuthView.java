@@ -0,0 +1,79 @@
+package com.monochrome.Backend.dto;
+
+import com.monochrome.Backend.entity.Permission;
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.repository.UserAuthRow;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-only snapshot of a user and its permission names, used by the auth paths instead of a managed entity.
+ */
+@Value
+@Builder
+public class UserAuthView {
+
+    Long id;
+    String username;
+    String password;
+    String name;
+    String email;
+    String department;
+    Role role;
+    boolean enabled;
+    Set<String> permissions;
+    long version;
+
+    public static UserAuthView of(User user) {
+        Set<String> permissions = new HashSet<>();
+        for (Permission p : user.getPermissions()) {
+            permissions.add(p.getName());
+        }
+        return UserAuthView.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .name(user.getName())
+                .email(user.getEmail())
+                .department(user.getDepartment())
+                .role(user.getRole())
+                .enabled(user.isEnabled())
+                .permissions(Set.copyOf(permissions))
+                .version(user.getVersion())
+                .build();
+    }
+
+    /**
+     * Folds the one-row-per-permission result of a user/permission join back into a single view.
+     */
+    public static Optional<UserAuthView> fromRows(List<? extends UserAuthRow> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        UserAuthRow first = rows.get(0);
+        Set<String> permissions = new HashSet<>();
+        for (UserAuthRow row : rows) {
+            if (row.getPermission() != null) {
+                permissions.add(row.getPermission());
+            }
+        }
+        return Optional.of(UserAuthView.builder()
+                .id(first.getId())
+                .username(first.getUsername())
+                .password(first.getPassword())
+                .name(first.getName())
+                .email(first.getEmail())
+                .department(first.getDepartment())
+                .role(first.getRole())
+                .enabled(first.isEnabled())
+                .permissions(Set.copyOf(permissions))
+                .version(first.getVersion())
+                .build());
+    }
+}
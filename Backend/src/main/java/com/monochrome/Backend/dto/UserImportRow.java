@@ -0,0 +1,23 @@
+package com.monochrome.Backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportRow {
+
+    private String username;
+    private String email;
+    private String password;
+    private String name;
+    private String department;
+    private String role;
+    private Set<String> permissions;
+}
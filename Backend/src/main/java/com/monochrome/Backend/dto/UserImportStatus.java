@@ -0,0 +1,30 @@
+package com.monochrome.Backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+@Value
+@Builder
+public class UserImportStatus {
+
+    String jobId;
+    String status;
+    int total;
+    int processed;
+    int created;
+    int failed;
+    Instant startedAt;
+    Instant finishedAt;
+    // capped at app.users.import.max-reported-errors; failed is always the full count
+    List<RowError> errors;
+
+    @Value
+    public static class RowError {
+        int row;
+        String username;
+        String message;
+    }
+}
@@ -0,0 +1,13 @@
+package com.monochrome.Backend.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class UserPage {
+
+    List<UserSummary> items;
+    // pass back as ?cursor= for the next page; null on the last page
+    String nextCursor;
+}
@@ -0,0 +1,22 @@
+package com.monochrome.Backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.Set;
+
+@Value
+@Builder
+public class UserSummary {
+
+    Long id;
+    String username;
+    String name;
+    String email;
+    String department;
+    String role;
+    boolean enabled;
+    Instant createdAt;
+    Set<String> permissions;
+}
@@ -0,0 +1,41 @@
+package com.monochrome.Backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One authentication event. Rows are only ever inserted, in batches, by the JDBC audit sink; the entity exists
+ * to define the table.
+ */
+@Entity
+@Table(name = "auth_audit_log", indexes = {
+        @Index(name = "idx_auth_audit_log_occurred_at", columnList = "occurred_at"),
+        @Index(name = "idx_auth_audit_log_username_occurred_at", columnList = "username, occurred_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthAuditEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false, length = 32)
+    private String eventType;
+
+    @Column(nullable = false, length = 32)
+    private String outcome;
+
+    private String username;
+
+    @Column(length = 45)
+    private String clientIp;
+}
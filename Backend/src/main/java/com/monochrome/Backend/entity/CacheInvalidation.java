@@ -0,0 +1,36 @@
+package com.monochrome.Backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Change-log row of the database invalidation bus. Written and read with plain JDBC; the entity defines the
+ * table. Rows are only needed until every node has polled past them.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String kind;
+
+    @Column(name = "cache_key")
+    private String cacheKey;
+
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,38 @@
+package com.monochrome.Backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "jwt_signing_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JwtSigningKey {
+
+    @Id
+    @Column(length = 64)
+    private String kid;
+
+    @Column(nullable = false, length = 16)
+    private String algorithm;
+
+    // X.509 SubjectPublicKeyInfo, base64
+    @Column(nullable = false, length = 1024)
+    private String publicKey;
+
+    // PKCS#8, AES-GCM sealed with a key derived from app.jwt.secret, base64
+    @Column(nullable = false, length = 4096)
+    private String privateKey;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    // published in the JWKS from creation, used for signing only from this instant
+    @Column(nullable = false)
+    private Instant activatesAt;
+}
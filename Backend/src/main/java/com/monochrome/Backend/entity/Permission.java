@@ -1,10 +1,16 @@
 package com.monochrome.Backend.entity;
 
+import com.monochrome.Backend.invalidation.CacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "permissions")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "permissions")
+@EntityListeners(CacheInvalidationListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
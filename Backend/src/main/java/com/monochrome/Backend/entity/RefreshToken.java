@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_user_id_issued_at", columnList = "user_id, issued_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,16 +22,29 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 512)
-    private String token;
+    // hex SHA-256 of the opaque token; the raw value is never persisted
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // every token rotated out of the same login shares its family
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
+    // set again on every rotation, so it doubles as the session's last use
+    @Column(nullable = false)
+    private Instant issuedAt;
+
     @Column(nullable = false)
     private Instant expiresAt;
 
+    // exchanged for a successor; kept until expiry so a replay can be detected
+    @Builder.Default
+    private boolean rotated = false;
+
     @Builder.Default
     private boolean revoked = false;
 }
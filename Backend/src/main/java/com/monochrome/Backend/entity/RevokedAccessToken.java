@@ -0,0 +1,38 @@
+package com.monochrome.Backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One access-token revocation: either a single token ({@code jti}) or every token issued to {@code username}
+ * up to {@code revokedAt}. Rows are only needed until {@code expiresAt}, when the tokens they cover expire anyway.
+ */
+@Entity
+@Table(name = "revoked_access_tokens", indexes = {
+        @Index(name = "idx_revoked_access_tokens_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_revoked_access_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedAccessToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 36)
+    private String jti;
+
+    private String username;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
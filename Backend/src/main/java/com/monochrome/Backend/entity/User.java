@@ -1,5 +1,6 @@
 package com.monochrome.Backend.entity;
 
+import com.monochrome.Backend.invalidation.CacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -8,7 +9,13 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+// listing indexes: newest first, optionally narrowed to one role or department (see UserListingRepository)
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_users_role_created_at_id", columnList = "role, created_at, id"),
+        @Index(name = "idx_users_department_created_at_id", columnList = "department, created_at, id")
+})
+@EntityListeners(CacheInvalidationListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,7 +45,8 @@ public class User {
     @Column(nullable = false)
     private Role role;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // load through the repository's fetch-join/entity-graph methods when permissions are needed
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "user_permissions",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -51,5 +59,10 @@ public class User {
     private boolean enabled = true;
 
     @Builder.Default
+    @Column(nullable = false)
     private Instant createdAt = Instant.now();
+
+    // bumped on every update, including changes to the owned permissions collection; drives the /me ETag
+    @Version
+    private long version;
 }
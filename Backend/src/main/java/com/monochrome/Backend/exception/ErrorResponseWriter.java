@@ -0,0 +1,96 @@
+package com.monochrome.Backend.exception;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes the {@code {timestamp, status, error, message, path}} error body straight to the response. The part
+ * that only depends on status and message is serialized once and reused, so a rejected request costs a
+ * timestamp, an escaped path and one write instead of a map and a Jackson pass.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final int MAX_TEMPLATES = 256;
+    private static final byte[] OPEN = "{\"timestamp\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CLOSE = "\"}".getBytes(StandardCharsets.US_ASCII);
+
+    private final ConcurrentHashMap<TemplateKey, byte[]> templates = new ConcurrentHashMap<>();
+
+    public void write(HttpServletResponse response, HttpStatus status, String message, String path) throws IOException {
+        byte[] timestamp = Instant.now().toString().getBytes(StandardCharsets.US_ASCII);
+        byte[] middle = template(status, message);
+        byte[] escapedPath = escape(path).getBytes(StandardCharsets.UTF_8);
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(OPEN.length + timestamp.length + middle.length + escapedPath.length + CLOSE.length);
+        var out = response.getOutputStream();
+        out.write(OPEN);
+        out.write(timestamp);
+        out.write(middle);
+        out.write(escapedPath);
+        out.write(CLOSE);
+    }
+
+    private byte[] template(HttpStatus status, String message) {
+        TemplateKey key = new TemplateKey(status, message);
+        byte[] cached = templates.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] rendered = render(status, message);
+        // messages are normally a handful of constants; don't let unusual ones grow the map without bound
+        if (templates.size() < MAX_TEMPLATES) {
+            templates.putIfAbsent(key, rendered);
+        }
+        return rendered;
+    }
+
+    private static byte[] render(HttpStatus status, String message) {
+        String json = "\",\"status\":" + status.value()
+                + ",\"error\":\"" + escape(status.getReasonPhrase())
+                + "\",\"message\":" + (message == null ? "null" : "\"" + escape(message) + "\"")
+                + ",\"path\":\"";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                default -> c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+            };
+            if (replacement != null && sb == null) {
+                sb = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (sb != null) {
+                if (replacement != null) {
+                    sb.append(replacement);
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+
+    private record TemplateKey(HttpStatus status, String message) {
+    }
+}
@@ -1,53 +1,85 @@
 package com.monochrome.Backend.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
-import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
 
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     @ExceptionHandler(BadCredentialsException.class)
-    public ResponseEntity<Map<String, Object>> handleBadCredentials(BadCredentialsException ex, HttpServletRequest req) {
-        return build(HttpStatus.UNAUTHORIZED, "Bad credentials", req.getRequestURI());
+    public void handleBadCredentials(BadCredentialsException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        write(res, HttpStatus.UNAUTHORIZED, "Bad credentials", req);
     }
 
     @ExceptionHandler(AuthenticationException.class)
-    public ResponseEntity<Map<String, Object>> handleAuth(AuthenticationException ex, HttpServletRequest req) {
-        return build(HttpStatus.UNAUTHORIZED, ex.getMessage(), req.getRequestURI());
+    public void handleAuth(AuthenticationException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        write(res, HttpStatus.UNAUTHORIZED, ex.getMessage(), req);
+    }
+
+    // thrown by method security inside a handler, after the filter chain's access-denied handler has run
+    @ExceptionHandler(AccessDeniedException.class)
+    public void handleAccessDenied(AccessDeniedException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        write(res, HttpStatus.FORBIDDEN, ex.getMessage(), req);
+    }
+
+    @ExceptionHandler(RefreshTokenException.class)
+    public void handleRefreshToken(RefreshTokenException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        write(res, HttpStatus.UNAUTHORIZED, ex.getMessage(), req);
+    }
+
+    @ExceptionHandler(LoginCapacityExceededException.class)
+    public void handleLoginCapacity(LoginCapacityExceededException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        write(res, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), req);
+    }
+
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public void handleTooManyAttempts(TooManyLoginAttemptsException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        write(res, HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), req);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public void handleInvalidRequest(InvalidRequestException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        write(res, HttpStatus.BAD_REQUEST, ex.getMessage(), req);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest req) {
-        return build(HttpStatus.BAD_REQUEST, "Validation error", req.getRequestURI());
+    public void handleValidation(MethodArgumentNotValidException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        write(res, HttpStatus.BAD_REQUEST, "Validation error", req);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public void handleTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        write(res, HttpStatus.BAD_REQUEST, "Invalid value for parameter '" + ex.getName() + "'", req);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, Object>> handleIllegalArg(IllegalArgumentException ex, HttpServletRequest req) {
-        return build(HttpStatus.UNAUTHORIZED, ex.getMessage(), req.getRequestURI());
+    public void handleIllegalArg(IllegalArgumentException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        write(res, HttpStatus.UNAUTHORIZED, ex.getMessage(), req);
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleOther(Exception ex, HttpServletRequest req) {
-        return build(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), req.getRequestURI());
-    }
-
-    private ResponseEntity<Map<String, Object>> build(HttpStatus status, String message, String path) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", Instant.now().toString());
-        body.put("status", status.value());
-        body.put("error", status.getReasonPhrase());
-        body.put("message", message);
-        body.put("path", path);
-        return ResponseEntity.status(status).body(body);
+    public void handleOther(Exception ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        write(res, HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), req);
+    }
+
+    private void write(HttpServletResponse res, HttpStatus status, String message, HttpServletRequest req) throws IOException {
+        errorResponseWriter.write(res, status, message, req.getRequestURI());
     }
 }
@@ -0,0 +1,8 @@
+package com.monochrome.Backend.exception;
+
+public class InvalidRequestException extends StacklessException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.monochrome.Backend.exception;
+
+import lombok.Getter;
+
+@Getter
+public class LoginCapacityExceededException extends StacklessException {
+
+    private final long retryAfterSeconds;
+
+    public LoginCapacityExceededException(long retryAfterSeconds) {
+        super("Login capacity exceeded, retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,12 @@
+package com.monochrome.Backend.exception;
+
+public class RefreshTokenException extends StacklessException {
+
+    // stackless and immutable, so one shared instance per reason is enough
+    public static final RefreshTokenException INVALID = new RefreshTokenException("Invalid refresh token");
+    public static final RefreshTokenException EXPIRED_OR_REVOKED = new RefreshTokenException("Refresh token expired or revoked");
+
+    private RefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.monochrome.Backend.exception;
+
+/**
+ * Base for expected, client-caused failures (bad refresh token, throttled login). They are mapped to a status
+ * code and never logged with a trace, so filling one in on every rejection would be wasted work.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    protected StacklessException(String message) {
+        super(message, null, false, false);
+    }
+}
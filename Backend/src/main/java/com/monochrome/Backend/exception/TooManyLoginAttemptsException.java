@@ -0,0 +1,14 @@
+package com.monochrome.Backend.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyLoginAttemptsException extends StacklessException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super("Too many login attempts, retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
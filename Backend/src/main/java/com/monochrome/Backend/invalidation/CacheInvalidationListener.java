@@ -0,0 +1,73 @@
+package com.monochrome.Backend.invalidation;
+
+import com.monochrome.Backend.entity.Permission;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.security.TokenRevocationService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * JPA listener on {@link User} and {@link Permission} that publishes an invalidation for every change,
+ * including permission grants (they bump {@code User.version}). Disabling a user also revokes the access
+ * tokens already issued to them, since stateless tokens carry their own copy of the user's authorities.
+ * <p>
+ * Hibernate obtains the listener from Spring; dependencies are looked up lazily because the listener is
+ * created while the entity manager factory itself is being built.
+ */
+public class CacheInvalidationListener {
+
+    private final ObjectProvider<InvalidationBus> bus;
+    private final ObjectProvider<TokenRevocationService> revocationService;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    public CacheInvalidationListener(
+            ObjectProvider<InvalidationBus> bus,
+            ObjectProvider<TokenRevocationService> revocationService,
+            ObjectProvider<PlatformTransactionManager> transactionManager
+    ) {
+        this.bus = bus;
+        this.revocationService = revocationService;
+        this.transactionManager = transactionManager;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void changed(Object entity) {
+        if (entity instanceof User user) {
+            bus.getObject().publish(InvalidationEvent.user(user.getUsername()));
+            if (!user.isEnabled()) {
+                afterCommit(() -> revokeTokens(user.getUsername()));
+            }
+        } else if (entity instanceof Permission) {
+            bus.getObject().publish(InvalidationEvent.permissions());
+        }
+    }
+
+    private void revokeTokens(String username) {
+        // the surrounding transaction has already committed; the revocation row needs a transaction of its own
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager.getObject());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        requiresNew.executeWithoutResult(status -> revocationService.getObject().revokeAllForUser(username));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
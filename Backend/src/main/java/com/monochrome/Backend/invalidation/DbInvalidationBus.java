@@ -0,0 +1,96 @@
+package com.monochrome.Backend.invalidation;
+
+import com.monochrome.Backend.service.ClusterLockService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Default transport. {@link #publish} appends a row to {@code cache_invalidations} with plain JDBC, so it
+ * commits or rolls back with the change that caused it, and delivers locally after commit. Every node polls
+ * the table for rows from other nodes; the window reaches back {@code poll-overlap-ms} past the last poll
+ * to catch late commits, which is safe because invalidating twice is harmless.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "db", matchIfMissing = true)
+public class DbInvalidationBus implements InvalidationBus {
+
+    private static final String PURGE_LOCK = "cache-invalidation-purge";
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidations (kind, cache_key, origin, created_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT kind, cache_key FROM cache_invalidations WHERE created_at >= ? AND origin <> ? ORDER BY id";
+    private static final String DELETE_SQL = "DELETE FROM cache_invalidations WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher publisher;
+    private final ClusterLockService clusterLockService;
+    private final Duration pollOverlap;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile Instant lastPoll;
+
+    public DbInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher publisher,
+            ClusterLockService clusterLockService,
+            @Value("${app.invalidation.poll-overlap-ms:5000}") long pollOverlapMs,
+            @Value("${app.invalidation.retention-minutes:10}") long retentionMinutes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.publisher = publisher;
+        this.clusterLockService = clusterLockService;
+        this.pollOverlap = Duration.ofMillis(pollOverlapMs);
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    @PostConstruct
+    void start() {
+        // caches start empty, so nothing published before this node came up concerns it
+        lastPoll = Instant.now();
+    }
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        jdbcTemplate.update(INSERT_SQL, event.kind().name(), event.key(), nodeId, Timestamp.from(Instant.now()));
+        InvalidationBus.deliverAfterCommit(publisher, event);
+    }
+
+    @Scheduled(initialDelayString = "${app.invalidation.poll-interval-ms:1000}",
+            fixedDelayString = "${app.invalidation.poll-interval-ms:1000}")
+    public void poll() {
+        Instant started = Instant.now();
+        try {
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                publisher.publishEvent(new InvalidationEvent(
+                        InvalidationEvent.Kind.valueOf(rs.getString("kind")), rs.getString("cache_key")));
+            }, Timestamp.from(lastPoll.minus(pollOverlap)), nodeId);
+            lastPoll = started;
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll cache invalidations", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.invalidation.purge-interval-ms:60000}",
+            fixedDelayString = "${app.invalidation.purge-interval-ms:60000}")
+    public void purge() {
+        if (clusterLockService.tryLock(PURGE_LOCK, Duration.ofMinutes(5))) {
+            try {
+                jdbcTemplate.update(DELETE_SQL, Timestamp.from(Instant.now().minus(retention)));
+            } finally {
+                clusterLockService.unlock(PURGE_LOCK);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.monochrome.Backend.invalidation;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Carries {@link InvalidationEvent}s to every node. Selected with {@code app.invalidation.transport}:
+ * {@code db} (default) tails a change-log table, {@code local} only reaches this JVM.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Invalidates on this node once the current transaction commits (immediately outside a transaction) and
+     * on the other nodes when they next see the event.
+     */
+    void publish(InvalidationEvent event);
+
+    static void deliverAfterCommit(ApplicationEventPublisher publisher, InvalidationEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publisher.publishEvent(event);
+                }
+            });
+        } else {
+            publisher.publishEvent(event);
+        }
+    }
+}
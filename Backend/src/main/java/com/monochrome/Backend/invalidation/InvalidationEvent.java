@@ -0,0 +1,20 @@
+package com.monochrome.Backend.invalidation;
+
+/**
+ * Tells every node to drop cached state derived from a row that changed. Delivered as a Spring application
+ * event; caches subscribe with {@code @EventListener}.
+ *
+ * @param key the username for {@link Kind#USER}; null for {@link Kind#PERMISSIONS}
+ */
+public record InvalidationEvent(Kind kind, String key) {
+
+    public enum Kind { USER, PERMISSIONS }
+
+    public static InvalidationEvent user(String username) {
+        return new InvalidationEvent(Kind.USER, username);
+    }
+
+    public static InvalidationEvent permissions() {
+        return new InvalidationEvent(Kind.PERMISSIONS, null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.monochrome.Backend.invalidation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node transport: events never leave the JVM. For tests and one-instance deployments.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalInvalidationBus implements InvalidationBus {
+
+    private final ApplicationEventPublisher publisher;
+
+    @Override
+    public void publish(InvalidationEvent event) {
+        InvalidationBus.deliverAfterCommit(publisher, event);
+    }
+}
@@ -0,0 +1,27 @@
+package com.monochrome.Backend.invalidation;
+
+import com.monochrome.Backend.entity.Permission;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate keeps its second-level and query caches per node; evict the permission entries when another node
+ * (or this one) changes the table.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @EventListener
+    public void onInvalidation(InvalidationEvent event) {
+        if (event.kind() == InvalidationEvent.Kind.PERMISSIONS) {
+            entityManagerFactory.getCache().evict(Permission.class);
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+        }
+    }
+}
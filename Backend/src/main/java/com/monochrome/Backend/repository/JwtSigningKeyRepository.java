@@ -0,0 +1,14 @@
+package com.monochrome.Backend.repository;
+
+import com.monochrome.Backend.entity.JwtSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    // primary: a key just rotated in on another node must be found on the first unknown kid
+    @Transactional
+    List<JwtSigningKey> findAllByOrderByActivatesAtAsc();
+}
@@ -1,11 +1,22 @@
 package com.monochrome.Backend.repository;
 
 import com.monochrome.Backend.entity.Permission;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PermissionRepository extends JpaRepository<Permission, Long> {
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Permission> findByName(String name);
+
+    // primary: PermissionCatalog reloads to find a permission that was just created
+    @Override
+    @Transactional
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<Permission> findAll();
 }
@@ -0,0 +1,21 @@
+package com.monochrome.Backend.repository;
+
+import java.time.Instant;
+
+/**
+ * One row of the refresh token/user/permission join: the token columns repeated on every permission row.
+ */
+public interface RefreshTokenAuthRow extends UserAuthRow {
+
+    String getTokenHash();
+
+    String getFamilyId();
+
+    Instant getIssuedAt();
+
+    Instant getExpiresAt();
+
+    boolean isRotated();
+
+    boolean isRevoked();
+}
@@ -1,17 +1,82 @@
 package com.monochrome.Backend.repository;
 
 import com.monochrome.Backend.entity.RefreshToken;
-import com.monochrome.Backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    // read-write so it runs on the primary: a token minted on another node may not have replicated yet
+    @Transactional
+    @Query("select rt.tokenHash as tokenHash, rt.familyId as familyId, rt.issuedAt as issuedAt, rt.expiresAt as expiresAt, " +
+            "rt.rotated as rotated, rt.revoked as revoked, u.id as id, u.username as username, " +
+            "u.password as password, u.name as name, u.email as email, u.department as department, " +
+            "u.role as role, u.enabled as enabled, u.version as version, p.name as permission " +
+            "from RefreshToken rt join rt.user u left join u.permissions p where rt.tokenHash = :tokenHash")
+    List<RefreshTokenAuthRow> findAuthRowsByTokenHash(@Param("tokenHash") String tokenHash);
 
-    long deleteByUser(User user);
+    /**
+     * Retires a live token; 0 means it was already rotated, revoked, expired or deleted.
+     */
+    @Modifying
+    @Query("update RefreshToken rt set rt.rotated = true " +
+            "where rt.tokenHash = :tokenHash and rt.rotated = false and rt.revoked = false and rt.expiresAt > :now")
+    int markRotated(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
 
-    void deleteByExpiresAtBefore(Instant time);
+    @Modifying
+    @Query("update RefreshToken rt set rt.revoked = true where rt.familyId = :familyId and rt.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * The live token of each of the user's sessions, most recently used first.
+     */
+    @Transactional
+    @Query("select rt from RefreshToken rt where rt.user.id = :userId and rt.rotated = false and rt.revoked = false " +
+            "and rt.expiresAt > :now order by rt.issuedAt desc")
+    List<RefreshToken> findLiveByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update RefreshToken rt set rt.revoked = true " +
+            "where rt.user.id = :userId and rt.familyId = :familyId and rt.revoked = false")
+    int revokeSession(@Param("userId") Long userId, @Param("familyId") String familyId);
+
+    @Modifying
+    @Query("update RefreshToken rt set rt.revoked = true where rt.user.id = :userId and rt.revoked = false")
+    int revokeAllForUser(@Param("userId") Long userId);
+
+    /**
+     * Revokes the user's live tokens beyond the {@code keep} most recently used; rotated predecessors are left
+     * alone since they can no longer be exchanged.
+     */
+    @Modifying
+    @Query(value = "UPDATE refresh_tokens SET revoked = true " +
+            "WHERE user_id = :userId AND rotated = false AND revoked = false AND id NOT IN (" +
+            "SELECT id FROM (SELECT id FROM refresh_tokens WHERE user_id = :userId AND rotated = false AND revoked = false " +
+            "ORDER BY issued_at DESC, id DESC LIMIT :keep) AS kept)", nativeQuery = true)
+    int revokeLeastRecentlyUsed(@Param("userId") Long userId, @Param("keep") int keep);
+
+    /**
+     * Hashes of the user's live tokens, most recently used first, for applying the session cap piecemeal.
+     */
+    @Query("select rt.tokenHash from RefreshToken rt where rt.user.id = :userId and rt.rotated = false " +
+            "and rt.revoked = false order by rt.issuedAt desc, rt.id desc")
+    List<String> findLiveTokenHashesByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update RefreshToken rt set rt.revoked = true where rt.tokenHash in :tokenHashes and rt.revoked = false")
+    int revokeByTokenHashes(@Param("tokenHashes") Collection<String> tokenHashes);
+
+    // the extra derived table lets MySQL accept LIMIT inside the IN subquery
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN (" +
+            "SELECT id FROM (SELECT id FROM refresh_tokens WHERE expires_at < :cutoff OR revoked = true " +
+            "ORDER BY id LIMIT :limit) AS doomed)", nativeQuery = true)
+    int deleteExpiredOrRevoked(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
 }
@@ -0,0 +1,25 @@
+package com.monochrome.Backend.repository;
+
+import com.monochrome.Backend.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    // both read the primary: the poll window is sized for commit delays, not replication lag
+    @Transactional
+    List<RevokedAccessToken> findByExpiresAtAfter(Instant now);
+
+    @Transactional
+    List<RevokedAccessToken> findByRevokedAtGreaterThanEqual(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken r WHERE r.expiresAt < :cutoff")
+    int deleteExpired(@Param("cutoff") Instant cutoff);
+}
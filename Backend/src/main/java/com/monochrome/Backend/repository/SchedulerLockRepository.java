@@ -0,0 +1,21 @@
+package com.monochrome.Backend.repository;
+
+import com.monochrome.Backend.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :until, l.lockedBy = :owner where l.name = :name and l.lockedUntil <= :now")
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+                   @Param("now") Instant now, @Param("until") Instant until);
+
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :now where l.name = :name and l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now);
+}
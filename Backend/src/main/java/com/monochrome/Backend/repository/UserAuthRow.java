@@ -0,0 +1,29 @@
+package com.monochrome.Backend.repository;
+
+import com.monochrome.Backend.entity.Role;
+
+/**
+ * One row of the user/permission join; {@code permission} is null for a user without permissions.
+ */
+public interface UserAuthRow {
+
+    Long getId();
+
+    String getUsername();
+
+    String getPassword();
+
+    String getName();
+
+    String getEmail();
+
+    String getDepartment();
+
+    Role getRole();
+
+    boolean isEnabled();
+
+    String getPermission();
+
+    long getVersion();
+}
@@ -0,0 +1,12 @@
+package com.monochrome.Backend.repository;
+
+import com.monochrome.Backend.entity.Role;
+
+import java.time.Instant;
+
+/**
+ * Listing columns of a user, selected with a JPQL constructor expression so no entity is materialized.
+ */
+public record UserListRow(Long id, String username, String name, String email, String department, Role role,
+                          boolean enabled, Instant createdAt) {
+}
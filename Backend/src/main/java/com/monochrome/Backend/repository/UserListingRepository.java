@@ -0,0 +1,16 @@
+package com.monochrome.Backend.repository;
+
+import com.monochrome.Backend.entity.Role;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface UserListingRepository {
+
+    /**
+     * One page of users ordered by {@code createdAt} then {@code id}, newest first, starting after the given
+     * position (keyset pagination). Null filters and a null position are left out of the query.
+     */
+    List<UserListRow> findListPage(Role role, String department, Boolean enabled,
+                                   Instant afterCreatedAt, Long afterId, int limit);
+}
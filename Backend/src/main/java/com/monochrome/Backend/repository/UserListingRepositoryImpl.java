@@ -0,0 +1,52 @@
+package com.monochrome.Backend.repository;
+
+import com.monochrome.Backend.entity.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the listing query from the filters actually present, so each combination gets a plain predicate the
+ * {@code users} indexes can serve instead of {@code (:x is null or u.x = :x)} branches.
+ */
+class UserListingRepositoryImpl implements UserListingRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserListRow> findListPage(Role role, String department, Boolean enabled,
+                                          Instant afterCreatedAt, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder("select new com.monochrome.Backend.repository.UserListRow(")
+                .append("u.id, u.username, u.name, u.email, u.department, u.role, u.enabled, u.createdAt) ")
+                .append("from User u where 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        if (role != null) {
+            jpql.append(" and u.role = :role");
+            params.put("role", role);
+        }
+        if (department != null) {
+            jpql.append(" and u.department = :department");
+            params.put("department", department);
+        }
+        if (enabled != null) {
+            jpql.append(" and u.enabled = :enabled");
+            params.put("enabled", enabled);
+        }
+        if (afterCreatedAt != null) {
+            jpql.append(" and (u.createdAt < :createdAt or (u.createdAt = :createdAt and u.id < :id))");
+            params.put("createdAt", afterCreatedAt);
+            params.put("id", afterId);
+        }
+        jpql.append(" order by u.createdAt desc, u.id desc");
+
+        TypedQuery<UserListRow> query = entityManager.createQuery(jpql.toString(), UserListRow.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,8 @@
+package com.monochrome.Backend.repository;
+
+public interface UserPermissionRow {
+
+    Long getUserId();
+
+    String getPermission();
+}
@@ -2,13 +2,47 @@ package com.monochrome.Backend.repository;
 
 import com.monochrome.Backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserListingRepository {
+
+    String AUTH_ROWS = "select u.id as id, u.username as username, u.password as password, u.name as name, " +
+            "u.email as email, u.department as department, u.role as role, u.enabled as enabled, u.version as version, " +
+            "p.name as permission from User u left join u.permissions p ";
 
     Optional<User> findByUsername(String username);
 
+    // refills the user caches, so read-write to run on the primary: a lagging replica would put a stale user or
+    // version back right after an invalidation and keep it for the whole TTL
+    @Transactional
+    @Query(AUTH_ROWS + "where u.username = :username")
+    List<UserAuthRow> findAuthRowsByUsername(@Param("username") String username);
+
+    @Query("select u.id from User u where u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Transactional
+    @Query("select u.version from User u where u.username = :username")
+    Optional<Long> findVersionByUsername(@Param("username") String username);
+
+    // the import's uniqueness checks read the primary
+    @Transactional
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Transactional
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select u.id as userId, p.name as permission from User u join u.permissions p where u.id in :ids")
+    List<UserPermissionRow> findPermissionNames(@Param("ids") Collection<Long> ids);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
@@ -0,0 +1,65 @@
+package com.monochrome.Backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Stage timers ({@code auth.stage}) and outcome counters ({@code auth.outcome}) for the authentication
+ * pipeline. Meters are registered up front so the hot path only does an enum lookup.
+ */
+@Component
+public class AuthMetrics {
+
+    public enum Stage { TOKEN_VERIFY, USER_LOAD, PASSWORD_CHECK, TOKEN_MINT, REFRESH_PERSIST }
+
+    public enum Flow { LOGIN, REFRESH, ACCESS_TOKEN }
+
+    public enum Outcome { SUCCESS, BAD_CREDENTIALS, DISABLED, EXPIRED, REVOKED, REUSED, INVALID_SIGNATURE, MALFORMED, UNKNOWN_TOKEN }
+
+    private final Map<Stage, Timer> stages = new EnumMap<>(Stage.class);
+    private final Map<Flow, Map<Outcome, Counter>> outcomes = new EnumMap<>(Flow.class);
+
+    public AuthMetrics(MeterRegistry registry) {
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, Timer.builder("auth.stage")
+                    .description("Latency of one stage of the authentication pipeline")
+                    .tag("stage", tagValue(stage))
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        for (Flow flow : Flow.values()) {
+            Map<Outcome, Counter> byOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                byOutcome.put(outcome, Counter.builder("auth.outcome")
+                        .description("Authentication results by flow and reason")
+                        .tag("flow", tagValue(flow))
+                        .tag("reason", tagValue(outcome))
+                        .register(registry));
+            }
+            outcomes.put(flow, byOutcome);
+        }
+    }
+
+    public Timer timer(Stage stage) {
+        return stages.get(stage);
+    }
+
+    public <T> T time(Stage stage, Supplier<T> work) {
+        return stages.get(stage).record(work);
+    }
+
+    public void outcome(Flow flow, Outcome outcome) {
+        outcomes.get(flow).get(outcome).increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
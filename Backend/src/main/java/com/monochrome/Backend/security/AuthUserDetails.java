@@ -0,0 +1,22 @@
+package com.monochrome.Backend.security;
+
+import com.monochrome.Backend.dto.UserAuthView;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Set;
+
+/**
+ * Principal produced by {@link CustomUserDetailsService}. It keeps the view it was built from so a login can
+ * mint tokens and build its response without loading the same user again.
+ */
+@Getter
+public class AuthUserDetails extends InternedUser {
+
+    private final transient UserAuthView view;
+
+    public AuthUserDetails(UserAuthView view, Set<GrantedAuthority> authorities) {
+        super(view.getUsername(), view.getPassword(), view.isEnabled(), authorities);
+        this.view = view;
+    }
+}
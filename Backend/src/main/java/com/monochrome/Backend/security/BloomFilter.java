@@ -0,0 +1,64 @@
+package com.monochrome.Backend.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. Hashes are computed straight from the characters, so neither
+ * {@link #add} nor {@link #mightContain} allocates. Entries cannot be removed; callers rebuild a fresh filter.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitMask;
+    private final int hashes;
+
+    /**
+     * @param bits rounded up to a power of two
+     */
+    BloomFilter(int bits, int hashes) {
+        int size = Integer.highestOneBit(Math.max(64, bits - 1)) << 1;
+        this.words = new AtomicLongArray(size >>> 6);
+        this.bitMask = size - 1;
+        this.hashes = hashes;
+    }
+
+    void add(String value) {
+        long h = hash(value);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + (long) i * h2) & bitMask;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            words.getAndAccumulate(word, mask, (a, b) -> a | b);
+        }
+    }
+
+    boolean mightContain(String value) {
+        long h = hash(value);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + (long) i * h2) & bitMask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64-bit FNV-1a over UTF-16 code units, finished with a murmur3 mix
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
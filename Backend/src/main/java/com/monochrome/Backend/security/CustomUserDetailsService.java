@@ -1,45 +1,30 @@
 package com.monochrome.Backend.security;
 
-import com.monochrome.Backend.entity.Permission;
-import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.dto.UserAuthView;
 import com.monochrome.Backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final AuthMetrics metrics;
+    private final PermissionCatalog permissionCatalog;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return metrics.time(AuthMetrics.Stage.USER_LOAD, () -> load(username));
+    }
 
-        Set<GrantedAuthority> authorities = new HashSet<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
-        for (Permission p : user.getPermissions()) {
-            authorities.add(new SimpleGrantedAuthority("PERM_" + p.getName().toUpperCase()));
-        }
+    private UserDetails load(String username) {
+        UserAuthView user = UserAuthView.fromRows(userRepository.findAuthRowsByUsername(username))
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                user.isEnabled(),
-                true,
-                true,
-                true,
-                authorities
-        );
+        return new AuthUserDetails(user, permissionCatalog.authoritiesForNames(user.getRole().name(), user.getPermissions()));
     }
 }
@@ -0,0 +1,50 @@
+package com.monochrome.Backend.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.Map;
+
+/**
+ * Single shared HS256 secret from {@code app.jwt.secret}. Only this backend can verify these tokens.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jwt.algorithm", havingValue = "HS256", matchIfMissing = true)
+public class HmacJwtKeys implements JwtKeys {
+
+    private final ActiveKey active;
+
+    public HmacJwtKeys(@Value("${app.jwt.secret}") String secret) {
+        this.active = new ActiveKey(null, secretKey(secret), SignatureAlgorithm.HS256);
+    }
+
+    static SecretKey secretKey(String secret) {
+        // allow plain text secret; if looks like base64, decode, else use bytes
+        byte[] secretBytes = secret.matches("[A-Za-z0-9+/=]+") && secret.length() % 4 == 0
+                ? Decoders.BASE64.decode(secret)
+                : secret.getBytes();
+        return Keys.hmacShaKeyFor(secretBytes);
+    }
+
+    @Override
+    public ActiveKey signingKey() {
+        return active;
+    }
+
+    @Override
+    public Key verificationKey(JwsHeader<?> header) {
+        return active.key();
+    }
+
+    @Override
+    public JwksDocument jwks() {
+        return JwksDocument.of(Map.of());
+    }
+}
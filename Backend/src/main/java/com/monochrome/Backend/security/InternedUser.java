@@ -0,0 +1,22 @@
+package com.monochrome.Backend.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Set;
+
+/**
+ * Principal whose authorities came from {@link PermissionCatalog}. {@link User} copies its authorities into a
+ * new sorted set, so the interned instance is kept alongside for lookups keyed by its identity.
+ */
+@Getter
+public class InternedUser extends User {
+
+    private final transient Set<GrantedAuthority> authoritySet;
+
+    public InternedUser(String username, String password, boolean enabled, Set<GrantedAuthority> authoritySet) {
+        super(username, password, enabled, true, true, true, authoritySet);
+        this.authoritySet = authoritySet;
+    }
+}
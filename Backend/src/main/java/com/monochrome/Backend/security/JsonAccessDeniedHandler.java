@@ -1,33 +1,24 @@
 package com.monochrome.Backend.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monochrome.Backend.exception.ErrorResponseWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class JsonAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper mapper = new ObjectMapper();
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException {
-        response.setStatus(HttpStatus.FORBIDDEN.value());
-        response.setContentType("application/json");
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", Instant.now().toString());
-        body.put("status", 403);
-        body.put("error", "Forbidden");
-        body.put("message", accessDeniedException.getMessage());
-        body.put("path", request.getRequestURI());
-        mapper.writeValue(response.getOutputStream(), body);
+        errorResponseWriter.write(response, HttpStatus.FORBIDDEN, accessDeniedException.getMessage(), request.getRequestURI());
     }
 }
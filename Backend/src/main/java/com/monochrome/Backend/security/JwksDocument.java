@@ -0,0 +1,67 @@
+package com.monochrome.Backend.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A serialized JWK Set (RFC 7517) and its strong ETag, rendered once per key change rather than per request.
+ */
+public record JwksDocument(byte[] json, String etag) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Base64.Encoder B64URL = Base64.getUrlEncoder().withoutPadding();
+
+    public static JwksDocument of(Map<String, RSAPublicKey> keysById) {
+        List<Map<String, String>> keys = new ArrayList<>(keysById.size());
+        keysById.forEach((kid, key) -> {
+            Map<String, String> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("n", unsigned(key.getModulus()));
+            jwk.put("e", unsigned(key.getPublicExponent()));
+            keys.add(jwk);
+        });
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(Map.of("keys", keys));
+            return new JwksDocument(json, etag(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return B64URL.encodeToString(bytes);
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + B64URL.encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,12 @@
 package com.monochrome.Backend.security;
 
+import com.monochrome.Backend.audit.AuditEvent;
+import com.monochrome.Backend.audit.AuthAuditLog;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +27,10 @@ import java.io.IOException;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final com.monochrome.Backend.security.JwtService jwtService;
-    private final com.monochrome.Backend.security.CustomUserDetailsService userDetailsService;
+    private final com.monochrome.Backend.security.JwtPrincipalResolver principalResolver;
+    private final AuthMetrics metrics;
+    private final TokenRevocationService revocationService;
+    private final AuthAuditLog auditLog;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -32,11 +41,26 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
         String token = authHeader.substring(7);
+        TokenPrecheck.Result precheck = TokenPrecheck.check(token, System.currentTimeMillis());
+        if (precheck != TokenPrecheck.Result.OK) {
+            // most rejected traffic ends here, without crypto or a jjwt exception
+            reject(precheck == TokenPrecheck.Result.EXPIRED
+                    ? AuthMetrics.Outcome.EXPIRED
+                    : AuthMetrics.Outcome.MALFORMED, null);
+            filterChain.doFilter(request, response);
+            return;
+        }
         try {
-            Claims claims = jwtService.parseToken(token);
+            Claims claims = verify(token);
+            if (revocationService.isRevoked(claims)) {
+                reject(AuthMetrics.Outcome.REVOKED, claims.getSubject());
+                filterChain.doFilter(request, response);
+                return;
+            }
+            metrics.outcome(AuthMetrics.Flow.ACCESS_TOKEN, AuthMetrics.Outcome.SUCCESS);
             String username = claims.getSubject();
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = principalResolver.resolve(claims);
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -47,4 +71,28 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private Claims verify(String token) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return jwtService.parseToken(token);
+        } catch (ExpiredJwtException e) {
+            reject(AuthMetrics.Outcome.EXPIRED, e.getClaims().getSubject());
+            throw e;
+        } catch (SignatureException e) {
+            reject(AuthMetrics.Outcome.INVALID_SIGNATURE, null);
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            reject(AuthMetrics.Outcome.MALFORMED, null);
+            throw e;
+        } finally {
+            sample.stop(metrics.timer(AuthMetrics.Stage.TOKEN_VERIFY));
+        }
+    }
+
+    // successful token checks are counted but not audited; they are every authenticated request
+    private void reject(AuthMetrics.Outcome outcome, String username) {
+        metrics.outcome(AuthMetrics.Flow.ACCESS_TOKEN, outcome);
+        auditLog.record(AuditEvent.Type.ACCESS_TOKEN, outcome, username);
+    }
 }
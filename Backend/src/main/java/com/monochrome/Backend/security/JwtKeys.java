@@ -0,0 +1,28 @@
+package com.monochrome.Backend.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+
+/**
+ * Source of the keys {@link JwtService} signs and verifies with. Selected by {@code app.jwt.algorithm}:
+ * {@link HmacJwtKeys} for {@code HS256}, {@link RotatingRsaJwtKeys} for {@code RS256}.
+ */
+public interface JwtKeys {
+
+    ActiveKey signingKey();
+
+    /**
+     * Key for verifying a token with the given header; throws a JWT exception when none matches.
+     */
+    Key verificationKey(JwsHeader<?> header);
+
+    /**
+     * Public keys to publish at {@code /.well-known/jwks.json}; empty for shared-secret algorithms.
+     */
+    JwksDocument jwks();
+
+    record ActiveKey(String kid, Key key, SignatureAlgorithm algorithm) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.monochrome.Backend.security;
+
+import com.monochrome.Backend.service.UserVersionCache;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns verified access-token claims into the request principal. In stateless mode the authorities come
+ * straight from the {@code role} claim and the {@code perms} bitmask (or the older {@code permissions} name list),
+ * as long as the token's {@code ver} claim still matches the user's version in {@link UserVersionCache};
+ * otherwise, or for tokens minted without them, the principal is loaded through {@link UserDetailsCache}.
+ */
+@Component
+public class JwtPrincipalResolver {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
+    private final PermissionCatalog permissionCatalog;
+    private final UserVersionCache userVersionCache;
+    private final boolean stateless;
+
+    public JwtPrincipalResolver(
+            CustomUserDetailsService userDetailsService,
+            UserDetailsCache userDetailsCache,
+            PermissionCatalog permissionCatalog,
+            UserVersionCache userVersionCache,
+            @Value("${app.security.stateless-auth:true}") boolean stateless
+    ) {
+        this.userDetailsService = userDetailsService;
+        this.userDetailsCache = userDetailsCache;
+        this.permissionCatalog = permissionCatalog;
+        this.userVersionCache = userVersionCache;
+        this.stateless = stateless;
+    }
+
+    public UserDetails resolve(Claims claims) {
+        String username = claims.getSubject();
+        String role = claims.get("role", String.class);
+        if (stateless && role != null && isCurrent(username, claims)) {
+            // credentials never leave the token; the principal only needs a name and authorities
+            return new InternedUser(username, "", true, authorities(role, claims));
+        }
+        return userDetailsCache.get(username, userDetailsService::loadUserByUsername);
+    }
+
+    // any change to the user since minting, such as a revoked permission, bumps the version past the claim
+    private boolean isCurrent(String username, Claims claims) {
+        Number minted = claims.get("ver", Number.class);
+        return minted != null && userVersionCache.version(username)
+                .filter(version -> version == minted.longValue())
+                .isPresent();
+    }
+
+    private Set<GrantedAuthority> authorities(String role, Claims claims) {
+        String mask = claims.get("perms", String.class);
+        if (mask != null) {
+            return permissionCatalog.authorities(role, mask);
+        }
+        // tokens minted before the bitmask claim, still valid until they expire
+        List<String> names = new ArrayList<>();
+        if (claims.get("permissions") instanceof Collection<?> legacy) {
+            for (Object name : legacy) {
+                names.add(name.toString());
+            }
+        }
+        return permissionCatalog.authoritiesForNames(role, names);
+    }
+}
@@ -1,62 +1,104 @@
 package com.monochrome.Backend.security;
 
-import com.monochrome.Backend.entity.Permission;
+import com.monochrome.Backend.dto.UserAuthView;
 import com.monochrome.Backend.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
+import java.security.Key;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 @Service
 public class JwtService {
 
-    private final SecretKey key;
+    private final JwtKeys keys;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
     private final int accessExpMin;
     private final int refreshExpDays;
+    private final AuthMetrics metrics;
+    private final PermissionCatalog permissionCatalog;
 
     public JwtService(
-            @Value("${app.jwt.secret}") String secret,
+            AuthMetrics metrics,
+            PermissionCatalog permissionCatalog,
+            JwtKeys keys,
             @Value("${app.jwt.access-exp-min}") int accessExpMin,
-            @Value("${app.jwt.refresh-exp-days}") int refreshExpDays
+            @Value("${app.jwt.refresh-exp-days}") int refreshExpDays,
+            @Value("${app.jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize
     ) {
-        // allow plain text secret; if looks like base64, decode, else use bytes
-        byte[] secretBytes = secret.matches("[A-Za-z0-9+/=]+") && secret.length() % 4 == 0
-                ? Decoders.BASE64.decode(secret)
-                : secret.getBytes();
-        this.key = Keys.hmacShaKeyFor(secretBytes);
+        this.keys = keys;
+        // parser is immutable and thread-safe, build it once instead of per request
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keys.verificationKey(header);
+                    }
+                })
+                .build();
+        // a size of 0 disables the cache
+        this.verifiedTokens = verifiedCacheMaxSize > 0
+                ? new VerifiedTokenCache(verifiedCacheMaxSize, Duration.ofMinutes(accessExpMin))
+                : null;
         this.accessExpMin = accessExpMin;
         this.refreshExpDays = refreshExpDays;
+        this.metrics = metrics;
+        this.permissionCatalog = permissionCatalog;
     }
 
     public String generateAccessToken(User user) {
+        return generateAccessToken(UserAuthView.of(user));
+    }
+
+    public String generateAccessToken(UserAuthView user) {
+        return metrics.time(AuthMetrics.Stage.TOKEN_MINT, () -> mint(user));
+    }
+
+    private String mint(UserAuthView user) {
         Instant now = Instant.now();
-        Set<String> perms = user.getPermissions().stream().map(Permission::getName).collect(Collectors.toSet());
         Map<String, Object> claims = Map.of(
                 "role", user.getRole().name(),
-                "permissions", perms,
-                "userId", user.getId()
+                "perms", permissionCatalog.encode(user.getPermissions()),
+                "userId", user.getId(),
+                "ver", user.getVersion()
         );
-        return Jwts.builder()
+        JwtKeys.ActiveKey signing = keys.signingKey();
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getUsername())
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(now.plus(accessExpMin, ChronoUnit.MINUTES)))
                 .addClaims(claims)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+                .signWith(signing.key(), signing.algorithm());
+        if (signing.kid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signing.kid());
+        }
+        return builder.compact();
     }
 
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        if (verifiedTokens == null) {
+            return parser.parseClaimsJws(token).getBody();
+        }
+        VerifiedTokenCache.TokenDigest digest = VerifiedTokenCache.digest(token);
+        Claims cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(digest, claims);
+        return claims;
     }
 }
@@ -0,0 +1,41 @@
+package com.monochrome.Backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory GCRA limiter. Each key holds a single {@link AtomicLong} (the theoretical arrival time), updated
+ * with CAS, so there are no locks on the attempt path. Idle keys are evicted and the key count is bounded.
+ */
+public class LocalLoginThrottleBackend implements LoginThrottleBackend {
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public LocalLoginThrottleBackend(long maxKeys, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key, int burst, long intervalMs) {
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong());
+        long tolerance = intervalMs * burst;
+        while (true) {
+            long now = System.currentTimeMillis();
+            long current = tat.get();
+            long next = Math.max(current, now) + intervalMs;
+            long excess = next - now - tolerance;
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
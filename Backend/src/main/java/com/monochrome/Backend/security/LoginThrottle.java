@@ -0,0 +1,64 @@
+package com.monochrome.Backend.security;
+
+import com.monochrome.Backend.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Per-client-IP and per-username limits on login attempts, checked before any user lookup or password hash.
+ */
+@Component
+public class LoginThrottle {
+
+    private final LoginThrottleBackend backend;
+    private final boolean enabled;
+    private final int ipBurst;
+    private final long ipIntervalMs;
+    private final int usernameBurst;
+    private final long usernameIntervalMs;
+    private final Counter ipRejected;
+    private final Counter usernameRejected;
+
+    public LoginThrottle(
+            LoginThrottleBackend backend,
+            MeterRegistry registry,
+            @Value("${app.auth.throttle.enabled:true}") boolean enabled,
+            @Value("${app.auth.throttle.per-ip.burst:20}") int ipBurst,
+            @Value("${app.auth.throttle.per-ip.per-minute:20}") int ipPerMinute,
+            @Value("${app.auth.throttle.per-username.burst:5}") int usernameBurst,
+            @Value("${app.auth.throttle.per-username.per-minute:5}") int usernamePerMinute
+    ) {
+        this.backend = backend;
+        this.enabled = enabled;
+        this.ipBurst = ipBurst;
+        this.ipIntervalMs = 60_000L / ipPerMinute;
+        this.usernameBurst = usernameBurst;
+        this.usernameIntervalMs = 60_000L / usernamePerMinute;
+        this.ipRejected = Counter.builder("auth.login.throttled").tag("scope", "ip").register(registry);
+        this.usernameRejected = Counter.builder("auth.login.throttled").tag("scope", "username").register(registry);
+    }
+
+    public void check(String username, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long waitMs = backend.tryAcquire("ip:" + clientIp, ipBurst, ipIntervalMs);
+        if (waitMs > 0) {
+            ipRejected.increment();
+            throw new TooManyLoginAttemptsException(toSeconds(waitMs));
+        }
+        waitMs = backend.tryAcquire("u:" + username.toLowerCase(Locale.ROOT), usernameBurst, usernameIntervalMs);
+        if (waitMs > 0) {
+            usernameRejected.increment();
+            throw new TooManyLoginAttemptsException(toSeconds(waitMs));
+        }
+    }
+
+    private static long toSeconds(long ms) {
+        return Math.max(1, (ms + 999) / 1000);
+    }
+}
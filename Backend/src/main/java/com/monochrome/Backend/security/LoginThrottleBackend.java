@@ -0,0 +1,18 @@
+package com.monochrome.Backend.security;
+
+/**
+ * Rate-limit state for login attempts. The local implementation keeps counters per node; a shared
+ * implementation (e.g. backed by Redis) can be registered as a bean, with {@code app.auth.throttle.backend}
+ * set to anything but {@code local}, to enforce limits cluster-wide.
+ */
+public interface LoginThrottleBackend {
+
+    /**
+     * Records one attempt against {@code key}.
+     *
+     * @param burst       attempts allowed back to back
+     * @param intervalMs  time for one attempt to be replenished
+     * @return 0 if the attempt is allowed, otherwise the number of milliseconds until it would be
+     */
+    long tryAcquire(String key, int burst, long intervalMs);
+}
@@ -0,0 +1,31 @@
+package com.monochrome.Backend.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs {@link #matches} on the {@link PasswordHashExecutor} instead of the calling request thread.
+ */
+@RequiredArgsConstructor
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashExecutor executor;
+    private final AuthMetrics metrics;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return metrics.time(AuthMetrics.Stage.PASSWORD_CHECK,
+                () -> executor.execute(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,105 @@
+package com.monochrome.Backend.security;
+
+import com.monochrome.Backend.exception.LoginCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated, bounded pool for password hashing so login bursts cannot occupy every servlet worker.
+ * When both the workers and the queue are full the call is rejected immediately.
+ */
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordHashExecutor(
+            MeterRegistry registry,
+            @Value("${app.auth.password-hash.threads:0}") int threads,
+            @Value("${app.auth.password-hash.queue-capacity:64}") int queueCapacity,
+            @Value("${app.auth.password-hash.timeout-ms:5000}") long timeoutMs,
+            @Value("${app.auth.password-hash.retry-after-seconds:2}") long retryAfterSeconds
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.hashTimer = Timer.builder("auth.password_hash.duration")
+                .description("Time spent computing a password hash")
+                .register(registry);
+        this.waitTimer = Timer.builder("auth.password_hash.queue.wait")
+                .description("Time a hash request waited for a free worker")
+                .register(registry);
+        this.rejected = Counter.builder("auth.password_hash.rejected")
+                .description("Hash requests rejected because the pool was saturated")
+                .register(registry);
+        Gauge.builder("auth.password_hash.queue.depth", executor, e -> e.getQueue().size())
+                .register(registry);
+        Gauge.builder("auth.password_hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+    }
+
+    public <T> T execute(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new LoginCapacityExceededException(retryAfterSeconds);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new LoginCapacityExceededException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginCapacityExceededException(retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,235 @@
+package com.monochrome.Backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monochrome.Backend.entity.Permission;
+import com.monochrome.Backend.invalidation.InvalidationEvent;
+import com.monochrome.Backend.repository.PermissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Maps each {@link Permission} to a stable bit index ({@code id - 1}; identity ids are never reused) so a
+ * user's permissions travel in tokens as a small base64url bitmask instead of a list of names.
+ * <p>
+ * Authority sets are interned per {@code (role, mask)}: every request from users with the same grants shares
+ * one immutable {@code Set<GrantedAuthority>} and the {@link SimpleGrantedAuthority} instances inside it.
+ */
+@Slf4j
+@Component
+public class PermissionCatalog {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final long RELOAD_BACKOFF_MS = 5_000;
+
+    private final PermissionRepository permissionRepository;
+    private final long maxAuthoritySets;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private volatile boolean stale;
+    private volatile long lastLoadMs;
+
+    public PermissionCatalog(
+            PermissionRepository permissionRepository,
+            @Value("${app.security.authority-sets.max-size:10000}") long maxAuthoritySets
+    ) {
+        this.permissionRepository = permissionRepository;
+        this.maxAuthoritySets = maxAuthoritySets;
+    }
+
+    /**
+     * Encodes permission names as a bitmask claim.
+     */
+    public String encode(Collection<String> names) {
+        BitSet bits = new BitSet();
+        Snapshot current = snapshot();
+        for (String name : names) {
+            Integer bit = current.bitByName.get(name);
+            if (bit == null) {
+                // names come from the database, so a miss usually means the catalog is stale; a bogus name in an
+                // import must not force a query per call, though
+                current = reload();
+                bit = current.bitByName.get(name);
+            }
+            if (bit == null) {
+                log.warn("Permission '{}' is not in the catalog and was left out of the token", name);
+                continue;
+            }
+            bits.set(bit);
+        }
+        return ENCODER.encodeToString(bits.toByteArray());
+    }
+
+    public Set<String> decode(String mask) {
+        Snapshot current = snapshot();
+        BitSet bits = BitSet.valueOf(DECODER.decode(mask));
+        Set<String> names = new HashSet<>();
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+            String name = current.name(bit);
+            if (name == null) {
+                current = reload();
+                name = current.name(bit);
+            }
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return Set.copyOf(names);
+    }
+
+    /**
+     * Shared, immutable authorities for a role and a bitmask claim.
+     */
+    public Set<GrantedAuthority> authorities(String role, String mask) {
+        Snapshot current = snapshot();
+        AuthorityKey key = new AuthorityKey(role, mask);
+        Set<GrantedAuthority> authorities = current.interned.getIfPresent(key);
+        if (authorities != null) {
+            return authorities;
+        }
+        BitSet bits = BitSet.valueOf(DECODER.decode(mask));
+        if (!current.knows(bits)) {
+            current = reload();
+        }
+        Snapshot snapshot = current;
+        return current.interned.get(key, k -> snapshot.build(role, bits));
+    }
+
+    /**
+     * Shared, immutable authorities for a role and permission names, e.g. a user freshly loaded from the database.
+     */
+    public Set<GrantedAuthority> authoritiesForNames(String role, Collection<String> names) {
+        return authorities(role, encode(names));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return reload();
+        }
+        // one caller reloads an invalidated catalog; everyone else keeps using the previous snapshot meanwhile
+        if (stale && reloadLock.tryLock()) {
+            try {
+                return stale ? load() : snapshot;
+            } catch (RuntimeException e) {
+                log.warn("Could not reload the permission catalog, still using the previous one", e);
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    @EventListener
+    public void onInvalidation(InvalidationEvent event) {
+        if (event.kind() == InvalidationEvent.Kind.PERMISSIONS) {
+            // reloaded by the next caller rather than here, which may be a commit callback
+            stale = true;
+        }
+    }
+
+    /**
+     * Re-reads the permission table, for a caller that needs a name or bit the snapshot does not have. Unless the
+     * catalog was invalidated, reloads happen at most once per backoff window so unknown names or bits cannot turn
+     * every request into a query.
+     */
+    Snapshot reload() {
+        reloadLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && !stale && System.currentTimeMillis() - lastLoadMs < RELOAD_BACKOFF_MS) {
+                return current;
+            }
+            return load();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        long now = System.currentTimeMillis();
+        // cleared first so an invalidation that arrives during the query triggers another reload
+        stale = false;
+        try {
+            // interned sets live in the snapshot, so a reload also drops sets built from the old catalog
+            Snapshot loaded = Snapshot.of(permissionRepository.findAll(), maxAuthoritySets);
+            snapshot = loaded;
+            lastLoadMs = now;
+            return loaded;
+        } catch (RuntimeException e) {
+            stale = true;
+            throw e;
+        }
+    }
+
+    private record AuthorityKey(String role, String mask) {
+    }
+
+    private record Snapshot(Map<String, Integer> bitByName, String[] nameByBit, GrantedAuthority[] authorityByBit,
+                            Cache<AuthorityKey, Set<GrantedAuthority>> interned) {
+
+        static Snapshot of(List<Permission> permissions, long maxAuthoritySets) {
+            int size = 0;
+            for (Permission p : permissions) {
+                size = Math.max(size, Math.toIntExact(p.getId()));
+            }
+            Map<String, Integer> bitByName = new HashMap<>();
+            String[] nameByBit = new String[size];
+            GrantedAuthority[] authorityByBit = new GrantedAuthority[size];
+            for (Permission p : permissions) {
+                int bit = Math.toIntExact(p.getId() - 1);
+                bitByName.put(p.getName(), bit);
+                nameByBit[bit] = p.getName();
+                authorityByBit[bit] = new SimpleGrantedAuthority("PERM_" + p.getName().toUpperCase());
+            }
+            return new Snapshot(Map.copyOf(bitByName), nameByBit, authorityByBit,
+                    Caffeine.newBuilder().maximumSize(maxAuthoritySets).build());
+        }
+
+        boolean knows(BitSet bits) {
+            for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+                if (authority(bit) == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Set<GrantedAuthority> build(String role, BitSet bits) {
+            List<GrantedAuthority> authorities = new ArrayList<>(bits.cardinality() + 1);
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+            for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+                GrantedAuthority authority = authority(bit);
+                if (authority != null) {
+                    authorities.add(authority);
+                }
+            }
+            return Set.copyOf(authorities);
+        }
+
+        String name(int bit) {
+            return bit < nameByBit.length ? nameByBit[bit] : null;
+        }
+
+        GrantedAuthority authority(int bit) {
+            return bit < authorityByBit.length ? authorityByBit[bit] : null;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.monochrome.Backend.security;
+
+import com.monochrome.Backend.entity.JwtSigningKey;
+import com.monochrome.Backend.repository.JwtSigningKeyRepository;
+import com.monochrome.Backend.service.ClusterLockService;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RS256 keys kept in {@code jwt_signing_keys} so every node signs with the same key and publishes the same JWKS.
+ * <p>
+ * A new key is generated every {@code app.jwt.rotation.period-days} by whichever node holds the cluster lock.
+ * It is published {@code publish-lead-minutes} before it starts signing, so JWKS consumers have picked it up
+ * by the time tokens carry its {@code kid}. A superseded key stays published until every token it signed has
+ * expired, then it is deleted.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.jwt.algorithm", havingValue = "RS256")
+public class RotatingRsaJwtKeys implements JwtKeys {
+
+    private static final String LOCK_NAME = "jwt-key-rotation";
+    private static final long UNKNOWN_KID_RELOAD_BACKOFF_MS = 5_000;
+    private static final int GCM_IV_BYTES = 12;
+
+    private final JwtSigningKeyRepository keyRepository;
+    private final ClusterLockService clusterLockService;
+    private final SecretKey wrappingKey;
+    private final Duration rotationPeriod;
+    private final Duration publishLead;
+    private final Duration retention;
+    private final SecureRandom random = new SecureRandom();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile KeyRing ring;
+    private volatile long lastReloadMs;
+
+    public RotatingRsaJwtKeys(
+            JwtSigningKeyRepository keyRepository,
+            ClusterLockService clusterLockService,
+            @Value("${app.jwt.secret}") String secret,
+            @Value("${app.jwt.access-exp-min}") int accessExpMin,
+            @Value("${app.jwt.rotation.period-days:30}") long rotationPeriodDays,
+            @Value("${app.jwt.rotation.publish-lead-minutes:15}") long publishLeadMinutes
+    ) {
+        this.keyRepository = keyRepository;
+        this.clusterLockService = clusterLockService;
+        this.wrappingKey = wrappingKey(secret);
+        this.rotationPeriod = Duration.ofDays(rotationPeriodDays);
+        this.publishLead = Duration.ofMinutes(publishLeadMinutes);
+        // tokens signed just before a switch stay verifiable until they expire, plus the JWKS lead for clock skew
+        this.retention = Duration.ofMinutes(accessExpMin).plus(publishLead);
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+        // first start on an empty table: one node creates the key, the others wait for it
+        for (int attempt = 0; ring.active() == null; attempt++) {
+            if (attempt == 20) {
+                throw new IllegalStateException("No JWT signing key available in jwt_signing_keys");
+            }
+            if (attempt > 0) {
+                sleep(500);
+            }
+            rotate();
+            reload();
+        }
+    }
+
+    @Override
+    public ActiveKey signingKey() {
+        return ring.active();
+    }
+
+    @Override
+    public Key verificationKey(JwsHeader<?> header) {
+        String kid = header.getKeyId();
+        if (kid == null || !SignatureAlgorithm.RS256.getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("Token is not signed with a published RS256 key");
+        }
+        Key key = ring.publicKeys().get(kid);
+        if (key == null && System.currentTimeMillis() - lastReloadMs > UNKNOWN_KID_RELOAD_BACKOFF_MS) {
+            // may have been created by another node since the last refresh
+            reloadLock.lock();
+            try {
+                // callers queued behind one reload share its result
+                if (System.currentTimeMillis() - lastReloadMs > UNKNOWN_KID_RELOAD_BACKOFF_MS) {
+                    load();
+                }
+            } finally {
+                reloadLock.unlock();
+            }
+            key = ring.publicKeys().get(kid);
+        }
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id");
+        }
+        return key;
+    }
+
+    @Override
+    public JwksDocument jwks() {
+        return ring.jwks();
+    }
+
+    @Scheduled(initialDelayString = "${app.jwt.rotation.check-interval-ms:60000}",
+            fixedDelayString = "${app.jwt.rotation.check-interval-ms:60000}")
+    public void maintain() {
+        rotate();
+        reload();
+    }
+
+    void rotate() {
+        if (!clusterLockService.tryLock(LOCK_NAME, Duration.ofMinutes(1))) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            List<JwtSigningKey> keys = keyRepository.findAllByOrderByActivatesAtAsc();
+            if (keys.isEmpty()) {
+                keyRepository.save(generate(now, now));
+                log.info("Created initial JWT signing key");
+                return;
+            }
+            JwtSigningKey newest = keys.get(keys.size() - 1);
+            if (newest.getCreatedAt().plus(rotationPeriod).isBefore(now)) {
+                JwtSigningKey next = keyRepository.save(generate(now, now.plus(publishLead)));
+                log.info("Created JWT signing key {}, signing from {}", next.getKid(), next.getActivatesAt());
+            }
+            for (int i = 0; i < keys.size() - 1; i++) {
+                Instant supersededAt = keys.get(i + 1).getActivatesAt();
+                if (supersededAt.plus(retention).isBefore(now)) {
+                    keyRepository.delete(keys.get(i));
+                    log.info("Retired JWT signing key {}", keys.get(i).getKid());
+                }
+            }
+        } finally {
+            clusterLockService.unlock(LOCK_NAME);
+        }
+    }
+
+    void reload() {
+        reloadLock.lock();
+        try {
+            load();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void load() {
+        List<JwtSigningKey> keys = keyRepository.findAllByOrderByActivatesAtAsc();
+        Instant now = Instant.now();
+        Map<String, RSAPublicKey> publicKeys = new LinkedHashMap<>();
+        JwtSigningKey signing = null;
+        for (JwtSigningKey k : keys) {
+            publicKeys.put(k.getKid(), publicKey(k.getPublicKey()));
+            if (!k.getActivatesAt().isAfter(now)) {
+                signing = k;
+            }
+        }
+        KeyRing current = ring;
+        ActiveKey active = current != null ? current.active() : null;
+        if (signing == null) {
+            active = null;
+        } else if (active == null || !active.kid().equals(signing.getKid())) {
+            // only the signing key's private half is ever decrypted
+            active = new ActiveKey(signing.getKid(), privateKey(signing.getPrivateKey()), SignatureAlgorithm.RS256);
+        }
+        JwksDocument jwks = current != null && current.publicKeys().keySet().equals(publicKeys.keySet())
+                ? current.jwks()
+                : JwksDocument.of(publicKeys);
+        ring = new KeyRing(active, Map.copyOf(publicKeys), jwks);
+        lastReloadMs = System.currentTimeMillis();
+    }
+
+    private JwtSigningKey generate(Instant createdAt, Instant activatesAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048, random);
+            KeyPair pair = generator.generateKeyPair();
+            return JwtSigningKey.builder()
+                    .kid(UUID.randomUUID().toString())
+                    .algorithm(SignatureAlgorithm.RS256.getValue())
+                    .publicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()))
+                    .privateKey(seal(pair.getPrivate().getEncoded()))
+                    .createdAt(createdAt)
+                    .activatesAt(activatesAt)
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not generate RSA signing key", e);
+        }
+    }
+
+    private static RSAPublicKey publicKey(String encoded) {
+        try {
+            return (RSAPublicKey) KeyFactory.getInstance("RSA")
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Stored JWT public key is not a valid RSA key", e);
+        }
+    }
+
+    private PrivateKey privateKey(String sealed) {
+        try {
+            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(open(sealed)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Stored JWT private key cannot be opened; was app.jwt.secret changed?", e);
+        }
+    }
+
+    private String seal(byte[] plain) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_BYTES];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, wrappingKey, new GCMParameterSpec(128, iv));
+        byte[] sealed = cipher.doFinal(plain);
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + sealed.length).put(iv).put(sealed).array());
+    }
+
+    private byte[] open(String sealed) throws GeneralSecurityException {
+        byte[] bytes = Base64.getDecoder().decode(sealed);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, wrappingKey, new GCMParameterSpec(128, bytes, 0, GCM_IV_BYTES));
+        return cipher.doFinal(bytes, GCM_IV_BYTES, bytes.length - GCM_IV_BYTES);
+    }
+
+    private static SecretKey wrappingKey(String secret) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update("jwt-signing-key-wrap:".getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(sha256.digest(secret.getBytes(StandardCharsets.UTF_8)), "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a JWT signing key", e);
+        }
+    }
+
+    private record KeyRing(ActiveKey active, Map<String, RSAPublicKey> publicKeys, JwksDocument jwks) {
+    }
+}
@@ -1,12 +1,23 @@
 package com.monochrome.Backend.security;
 
+import com.monochrome.Backend.authorization.AccessRule;
+import com.monochrome.Backend.authorization.PermissionMethodAuthorizationManager;
+import com.monochrome.Backend.authorization.RequiresPermission;
+import com.monochrome.Backend.authorization.RouteAuthorizationManager;
 import com.monochrome.Backend.security.JwtAuthFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -26,19 +37,16 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final JsonAuthenticationEntryPoint authenticationEntryPoint;
     private final JsonAccessDeniedHandler accessDeniedHandler;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final AuthMetrics authMetrics;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, RouteAuthorizationManager routeAuthorization) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(Customizer.withDefaults())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .authorizeHttpRequests(reg -> reg
-                .requestMatchers("/api/auth/**", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll()
-                .requestMatchers("/api/admin/**").hasAnyRole("ADMIN", "SUPERADMIN")
-                .requestMatchers("/api/superadmin/**").hasRole("SUPERADMIN")
-                .anyRequest().authenticated()
-                )
+                .authorizeHttpRequests(reg -> reg.anyRequest().access(routeAuthorization))
                 .exceptionHandling(ex -> ex
                 .authenticationEntryPoint(authenticationEntryPoint)
                 .accessDeniedHandler(accessDeniedHandler)
@@ -48,6 +56,38 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * URL rules, compiled into a path trie; the most specific pattern applies.
+     */
+    @Bean
+    public RouteAuthorizationManager routeAuthorization() {
+        return RouteAuthorizationManager.builder()
+                .route(AccessRule.permitAll(), "/api/auth/**", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**")
+                .route(AccessRule.permitAll(), "/actuator/health/**")
+                // JVM, pool and auth-outcome metrics are for operators and the scraper's service account
+                .route(AccessRule.hasAnyPermission("analytics"), "/actuator/prometheus", "/actuator/metrics/**")
+                .route(AccessRule.permitAll(), "/.well-known/jwks.json")
+                .route(AccessRule.hasAnyRole("ADMIN", "SUPERADMIN"), "/api/admin/**")
+                .route(AccessRule.hasAnyRole("SUPERADMIN"), "/api/superadmin/**")
+                .route(AccessRule.authenticated(), "/**")
+                .build();
+    }
+
+    /**
+     * Enforces {@link RequiresPermission} on beans with annotated methods or classes, alongside the
+     * {@code @PreAuthorize} support from {@code @EnableMethodSecurity}.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requiresPermissionAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(RequiresPermission.class, true))
+                .union(new AnnotationMatchingPointcut(null, RequiresPermission.class, true));
+        AuthorizationManagerBeforeMethodInterceptor interceptor =
+                new AuthorizationManagerBeforeMethodInterceptor(pointcut, new PermissionMethodAuthorizationManager());
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
@@ -58,7 +98,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(), passwordHashExecutor, authMetrics);
     }
 
     @Bean
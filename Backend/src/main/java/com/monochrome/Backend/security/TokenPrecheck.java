@@ -0,0 +1,87 @@
+package com.monochrome.Backend.security;
+
+import java.util.Base64;
+
+/**
+ * Cheap screening of a bearer value before signature verification. Rejects anything that is not shaped like a
+ * compact JWS and tokens whose (still unverified) {@code exp} has passed: a genuine token would fail verification
+ * as expired and a forged one as invalid, so neither can be wrongly turned away. Everything else goes on to
+ * full verification.
+ */
+final class TokenPrecheck {
+
+    enum Result { OK, MALFORMED, EXPIRED }
+
+    static final int MAX_LENGTH = 8192;
+
+    private static final byte[] EXP = "\"exp\"".getBytes();
+
+    private TokenPrecheck() {
+    }
+
+    static Result check(String token, long nowMillis) {
+        int length = token.length();
+        if (length < 16 || length > MAX_LENGTH) {
+            return Result.MALFORMED;
+        }
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return Result.MALFORMED;
+                }
+            } else if (!isBase64Url(c)) {
+                return Result.MALFORMED;
+            }
+        }
+        // header and claims are JSON objects, which always encode to "ey..."; the signature must be present
+        if (secondDot < 0 || secondDot == length - 1 || secondDot - firstDot < 3
+                || !token.startsWith("ey") || !token.startsWith("ey", firstDot + 1)) {
+            return Result.MALFORMED;
+        }
+        byte[] claims;
+        try {
+            claims = Base64.getUrlDecoder().decode(token.substring(firstDot + 1, secondDot));
+        } catch (IllegalArgumentException e) {
+            return Result.MALFORMED;
+        }
+        long exp = readExp(claims);
+        return exp >= 0 && exp * 1000 < nowMillis ? Result.EXPIRED : Result.OK;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    /**
+     * @return the numeric {@code exp} claim in seconds, or -1 if it is absent or not a plain integer
+     */
+    private static long readExp(byte[] json) {
+        outer:
+        for (int i = 0; i <= json.length - EXP.length; i++) {
+            for (int j = 0; j < EXP.length; j++) {
+                if (json[i + j] != EXP[j]) {
+                    continue outer;
+                }
+            }
+            int p = i + EXP.length;
+            while (p < json.length && (json[p] == ' ' || json[p] == ':')) {
+                p++;
+            }
+            long value = 0;
+            int digits = 0;
+            while (p < json.length && json[p] >= '0' && json[p] <= '9' && digits < 18) {
+                value = value * 10 + (json[p++] - '0');
+                digits++;
+            }
+            return digits > 0 ? value : -1;
+        }
+        return -1;
+    }
+}
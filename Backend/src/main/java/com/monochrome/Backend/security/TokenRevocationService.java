@@ -0,0 +1,203 @@
+package com.monochrome.Backend.security;
+
+import com.monochrome.Backend.entity.RevokedAccessToken;
+import com.monochrome.Backend.repository.RevokedAccessTokenRepository;
+import com.monochrome.Backend.service.ClusterLockService;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Denylist for access tokens that must stop working before their {@code exp}.
+ * <p>
+ * Revoked {@code jti}s are kept in an exact map fronted by a {@link BloomFilter}. For the common not-revoked
+ * token, {@link #isRevoked} is a few bit probes with no allocation. Revoking every token of a user stores a
+ * cutoff that covers all tokens issued up to that second. Revocations are written to
+ * {@code revoked_access_tokens}, and each node polls the table for rows added since its last poll. Entries
+ * are dropped when the tokens they cover expire.
+ * <p>
+ * The table is loaded when the context starts, ahead of the web server, rather than while beans are created:
+ * the class-data-sharing training run stops after refresh and has no database to read.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements SmartLifecycle {
+
+    private static final String PURGE_LOCK = "revoked-access-token-purge";
+
+    private final RevokedAccessTokenRepository repository;
+    private final ClusterLockService clusterLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration accessTokenLifetime;
+    private final Duration pollOverlap;
+    private final int bloomBits;
+    private final int bloomHashes;
+    private final boolean pollEnabled;
+
+    private final ConcurrentHashMap<String, Long> revokedJtis = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, UserCutoff> userCutoffs = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloom;
+    private volatile Instant lastPoll;
+    private volatile boolean running;
+
+    public TokenRevocationService(
+            RevokedAccessTokenRepository repository,
+            ClusterLockService clusterLockService,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.jwt.access-exp-min}") int accessExpMin,
+            @Value("${app.auth.revocation.poll-overlap-ms:5000}") long pollOverlapMs,
+            @Value("${app.auth.revocation.bloom-bits:1048576}") int bloomBits,
+            @Value("${app.auth.revocation.bloom-hashes:5}") int bloomHashes,
+            @Value("${app.auth.revocation.poll.enabled:true}") boolean pollEnabled
+    ) {
+        this.repository = repository;
+        this.clusterLockService = clusterLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.accessTokenLifetime = Duration.ofMinutes(accessExpMin);
+        this.pollOverlap = Duration.ofMillis(pollOverlapMs);
+        this.bloomBits = bloomBits;
+        this.bloomHashes = bloomHashes;
+        this.pollEnabled = pollEnabled;
+        this.bloom = new BloomFilter(bloomBits, bloomHashes);
+    }
+
+    @Override
+    public void start() {
+        load();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // before WebServerStartStopLifecycle, so no request is checked against an empty denylist
+        return 0;
+    }
+
+    void load() {
+        Instant now = Instant.now();
+        repository.findByExpiresAtAfter(now).forEach(this::apply);
+        lastPoll = now;
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti != null && bloom.mightContain(jti) && revokedJtis.containsKey(jti)) {
+            return true;
+        }
+        if (userCutoffs.isEmpty()) {
+            return false;
+        }
+        UserCutoff cutoff = userCutoffs.get(claims.getSubject());
+        // iat is kept as the parsed number; getIssuedAt() would allocate a Date
+        return cutoff != null && claims.get(Claims.ISSUED_AT) instanceof Number iat
+                && iat.longValue() <= cutoff.issuedUpToSeconds();
+    }
+
+    /**
+     * Revokes one access token until it expires.
+     */
+    public void revokeToken(String jti, Instant expiresAt) {
+        if (jti == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        persistAndApply(RevokedAccessToken.builder().jti(jti).revokedAt(Instant.now()).expiresAt(expiresAt).build());
+    }
+
+    /**
+     * Revokes every access token issued to the user so far, e.g. when the account is disabled.
+     */
+    public void revokeAllForUser(String username) {
+        Instant now = Instant.now();
+        persistAndApply(RevokedAccessToken.builder()
+                .username(username)
+                .revokedAt(now)
+                .expiresAt(now.plus(accessTokenLifetime))
+                .build());
+    }
+
+    private void persistAndApply(RevokedAccessToken revocation) {
+        transactionTemplate.executeWithoutResult(status -> repository.save(revocation));
+        apply(revocation);
+    }
+
+    private void apply(RevokedAccessToken revocation) {
+        long expiresAtMillis = revocation.getExpiresAt().toEpochMilli();
+        if (revocation.getJti() != null) {
+            // exact entry first: a concurrent reader that sees the Bloom bits must also find the entry
+            revokedJtis.put(revocation.getJti(), expiresAtMillis);
+            bloom.add(revocation.getJti());
+        }
+        if (revocation.getUsername() != null) {
+            UserCutoff cutoff = new UserCutoff(revocation.getRevokedAt().getEpochSecond(), expiresAtMillis);
+            userCutoffs.merge(revocation.getUsername(), cutoff,
+                    (a, b) -> a.issuedUpToSeconds() >= b.issuedUpToSeconds() ? a : b);
+        }
+    }
+
+    /**
+     * Picks up revocations made on other nodes. The window reaches back {@code poll-overlap-ms} past the last
+     * poll so rows committed late, or stamped by a node with a slower clock, are not missed; applying a row
+     * twice is harmless. Nothing is polled until {@link #start} has loaded the table.
+     */
+    @Scheduled(initialDelayString = "${app.auth.revocation.poll-interval-ms:1000}",
+            fixedDelayString = "${app.auth.revocation.poll-interval-ms:1000}")
+    public void poll() {
+        if (!pollEnabled || !running) {
+            return;
+        }
+        Instant started = Instant.now();
+        try {
+            repository.findByRevokedAtGreaterThanEqual(lastPoll.minus(pollOverlap)).forEach(this::apply);
+            lastPoll = started;
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll access-token revocations", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.auth.revocation.purge-interval-ms:60000}",
+            fixedDelayString = "${app.auth.revocation.purge-interval-ms:60000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        boolean removed = revokedJtis.values().removeIf(expiresAt -> expiresAt < now);
+        userCutoffs.values().removeIf(cutoff -> cutoff.expiresAtMillis() < now);
+        if (removed) {
+            rebuildBloom();
+        }
+        if (clusterLockService.tryLock(PURGE_LOCK, Duration.ofMinutes(5))) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> repository.deleteExpired(Instant.ofEpochMilli(now)));
+            } finally {
+                clusterLockService.unlock(PURGE_LOCK);
+            }
+        }
+    }
+
+    private synchronized void rebuildBloom() {
+        BloomFilter fresh = new BloomFilter(bloomBits, bloomHashes);
+        revokedJtis.keySet().forEach(fresh::add);
+        bloom = fresh;
+        // a revocation applied while the filter was being filled may have set its bits in the old one only
+        revokedJtis.keySet().forEach(fresh::add);
+    }
+
+    private record UserCutoff(long issuedUpToSeconds, long expiresAtMillis) {
+    }
+}
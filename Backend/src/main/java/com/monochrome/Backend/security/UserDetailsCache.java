@@ -0,0 +1,61 @@
+package com.monochrome.Backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monochrome.Backend.invalidation.InvalidationEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of DB-loaded principals for requests that cannot be served from claims alone. Entries are
+ * dropped on invalidation events, so the TTL only backstops a missed event.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(
+            @Value("${app.security.user-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.user-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        UserDetails cached = cache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+        // load outside the cache's compute lock so a slow query never holds a map bin (or pins a carrier thread)
+        UserDetails loaded = loader.apply(username);
+        cache.put(username, loaded);
+        return loaded;
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onInvalidation(InvalidationEvent event) {
+        if (event.kind() == InvalidationEvent.Kind.USER) {
+            invalidate(event.key());
+        } else {
+            // authorities are built from permission names
+            invalidateAll();
+        }
+    }
+}
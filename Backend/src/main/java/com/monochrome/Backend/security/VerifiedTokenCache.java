@@ -0,0 +1,96 @@
+package com.monochrome.Backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Bounded cache of tokens whose signature has already been verified, keyed by a SHA-256 digest of the
+ * compact token so the raw bearer value is never held. Entries expire at the token's own {@code exp}.
+ */
+public class VerifiedTokenCache {
+
+    private static final MessageDigest SHA_256 = sha256();
+
+    private final Cache<TokenDigest, Claims> cache;
+
+    public VerifiedTokenCache(long maxSize, Duration maxTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExp(maxTtl.toNanos()))
+                .build();
+    }
+
+    public Claims get(TokenDigest digest) {
+        return cache.getIfPresent(digest);
+    }
+
+    public void put(TokenDigest digest, Claims claims) {
+        cache.put(digest, claims);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public static TokenDigest digest(String token) {
+        ByteBuffer hash = ByteBuffer.wrap(newSha256().digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    // a clone skips the provider lookup getInstance does on every call; a ThreadLocal would never be reused
+    // under virtual threads
+    private static MessageDigest newSha256() {
+        try {
+            return (MessageDigest) SHA_256.clone();
+        } catch (CloneNotSupportedException e) {
+            return sha256();
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record TokenDigest(long h0, long h1, long h2, long h3) {
+    }
+
+    private record ExpireAtTokenExp(long maxTtlNanos) implements Expiry<TokenDigest, Claims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Claims claims, long currentTime) {
+            Date exp = claims.getExpiration();
+            if (exp == null) {
+                return maxTtlNanos;
+            }
+            long remaining = Duration.ofMillis(exp.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remaining, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package com.monochrome.Backend.service;
 
 
+import com.monochrome.Backend.audit.AuditEvent;
+import com.monochrome.Backend.audit.AuthAuditLog;
 import com.monochrome.Backend.dto.AuthRequest;
 import com.monochrome.Backend.dto.AuthResponse;
 import com.monochrome.Backend.dto.RefreshRequest;
+import com.monochrome.Backend.dto.UserAuthView;
 import com.monochrome.Backend.dto.UserDto;
-import com.monochrome.Backend.entity.RefreshToken;
 import com.monochrome.Backend.entity.User;
-import com.monochrome.Backend.repository.RefreshTokenRepository;
+import com.monochrome.Backend.exception.RefreshTokenException;
 import com.monochrome.Backend.repository.UserRepository;
+import com.monochrome.Backend.security.AuthMetrics;
+import com.monochrome.Backend.security.AuthUserDetails;
 import com.monochrome.Backend.security.JwtService;
+import com.monochrome.Backend.security.TokenRevocationService;
+import com.monochrome.Backend.security.UserDetailsCache;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,9 +30,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Set;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,17 +38,34 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserDetailsCache userDetailsCache;
+    private final TokenRevocationService revocationService;
+    private final AuthMetrics metrics;
+    private final AuthAuditLog auditLog;
 
     @Transactional
     public AuthResponse login(AuthRequest req) {
-        Authentication auth = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(req.getUsername(), req.getPassword()));
+        Authentication auth;
+        try {
+            auth = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(req.getUsername(), req.getPassword()));
+        } catch (BadCredentialsException e) {
+            outcome(AuditEvent.Type.LOGIN, AuthMetrics.Outcome.BAD_CREDENTIALS, req.getUsername());
+            throw e;
+        } catch (DisabledException e) {
+            outcome(AuditEvent.Type.LOGIN, AuthMetrics.Outcome.DISABLED, req.getUsername());
+            throw e;
+        }
+        outcome(AuditEvent.Type.LOGIN, AuthMetrics.Outcome.SUCCESS, req.getUsername());
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        User user = userRepository.findByUsername(req.getUsername()).orElseThrow();
+        // the principal already carries the user loaded during authentication
+        UserAuthView user = auth.getPrincipal() instanceof AuthUserDetails details
+                ? details.getView()
+                : UserAuthView.fromRows(userRepository.findAuthRowsByUsername(req.getUsername())).orElseThrow();
         String access = jwtService.generateAccessToken(user);
-        String refresh = generateAndStoreRefreshToken(user);
+        String refresh = generateAndStoreRefreshToken(user.getId());
         return AuthResponse.builder()
                 .token(access)
                 .refreshToken(refresh)
@@ -51,37 +74,81 @@ public class AuthService {
     }
 
     @Transactional
-    public void logout(String username) {
-        userRepository.findByUsername(username).ifPresent(u -> refreshTokenRepository.deleteByUser(u));
+    public void logout(String username, String authorization) {
+        userRepository.findIdByUsername(username).ifPresent(id ->
+                metrics.timer(AuthMetrics.Stage.REFRESH_PERSIST).record(() -> refreshTokenStore.revokeAllForUser(id)));
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            // the filter already verified this token, so this is a cache hit
+            Claims claims = jwtService.parseToken(authorization.substring(7));
+            revocationService.revokeToken(claims.getId(), claims.getExpiration().toInstant());
+        }
+        userDetailsCache.invalidate(username);
+        auditLog.record(AuditEvent.Type.LOGOUT, AuthMetrics.Outcome.SUCCESS, username);
     }
 
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token. Presenting a token that has
+     * already been exchanged revokes every token descended from the same login.
+     */
     public AuthResponse refresh(RefreshRequest request) {
-        RefreshToken rt = refreshTokenRepository.findByToken(request.getRefreshToken())
-                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
-        if (rt.isRevoked() || rt.getExpiresAt().isBefore(Instant.now())) {
-            throw new IllegalArgumentException("Refresh token expired or revoked");
+        ResolvedRefreshToken resolved = refreshTokenStore.find(request.getRefreshToken()).orElse(null);
+        if (resolved == null) {
+            outcome(AuditEvent.Type.REFRESH, AuthMetrics.Outcome.UNKNOWN_TOKEN, null);
+            throw RefreshTokenException.INVALID;
         }
-        User user = rt.getUser();
+        StoredRefreshToken rt = resolved.token();
+        UserAuthView user = resolved.user();
+        if (!rt.isUsable(Instant.now())) {
+            throw rejected(rt, user);
+        }
+        // rotation also fails when the token was revoked or expired after it was read; its row says which
+        String next = metrics.time(AuthMetrics.Stage.REFRESH_PERSIST,
+                () -> refreshTokenStore.rotate(rt, refreshTokenExpiry())).orElseThrow(() -> rejected(
+                        refreshTokenStore.find(request.getRefreshToken())
+                                .map(ResolvedRefreshToken::token)
+                                .orElse(rt.asRevoked()), user));
         String access = jwtService.generateAccessToken(user);
+        outcome(AuditEvent.Type.REFRESH, AuthMetrics.Outcome.SUCCESS, user.getUsername());
         return AuthResponse.builder()
                 .token(access)
-                .refreshToken(rt.getToken())
+                .refreshToken(next)
                 .build();
     }
 
-    private String generateAndStoreRefreshToken(User user) {
-        String token = UUID.randomUUID().toString();
-        RefreshToken rt = RefreshToken.builder()
-                .token(token)
-                .user(user)
-                .expiresAt(Instant.now().plus(7, ChronoUnit.DAYS))
-                .build();
-        refreshTokenRepository.save(rt);
-        return token;
+    private RefreshTokenException rejected(StoredRefreshToken rt, UserAuthView user) {
+        if (rt.revoked()) {
+            outcome(AuditEvent.Type.REFRESH, AuthMetrics.Outcome.REVOKED, user.getUsername());
+            return RefreshTokenException.EXPIRED_OR_REVOKED;
+        }
+        if (!rt.rotated() && !rt.expiresAt().isAfter(Instant.now())) {
+            outcome(AuditEvent.Type.REFRESH, AuthMetrics.Outcome.EXPIRED, user.getUsername());
+            return RefreshTokenException.EXPIRED_OR_REVOKED;
+        }
+        // rotated, or still live because a concurrent request on this node is exchanging it right now
+        refreshTokenStore.revokeFamily(rt.familyId());
+        outcome(AuditEvent.Type.REFRESH, AuthMetrics.Outcome.REUSED, user.getUsername());
+        return RefreshTokenException.EXPIRED_OR_REVOKED;
+    }
+
+    private void outcome(AuditEvent.Type type, AuthMetrics.Outcome outcome, String username) {
+        metrics.outcome(type == AuditEvent.Type.LOGIN ? AuthMetrics.Flow.LOGIN : AuthMetrics.Flow.REFRESH, outcome);
+        auditLog.record(type, outcome, username);
+    }
+
+    private String generateAndStoreRefreshToken(Long userId) {
+        return metrics.time(AuthMetrics.Stage.REFRESH_PERSIST,
+                () -> refreshTokenStore.issue(userId, refreshTokenExpiry()));
+    }
+
+    private static Instant refreshTokenExpiry() {
+        return Instant.now().plus(7, ChronoUnit.DAYS);
     }
 
     public UserDto toDto(User user) {
-        Set<String> permissions = user.getPermissions().stream().map(p -> p.getName()).collect(Collectors.toSet());
+        return toDto(UserAuthView.of(user));
+    }
+
+    public UserDto toDto(UserAuthView user) {
         return UserDto.builder()
                 .id(user.getId())
                 .name(user.getName())
@@ -89,7 +156,7 @@ public class AuthService {
                 .email(user.getEmail())
                 .role(user.getRole().name().toLowerCase())
                 .department(user.getDepartment())
-                .permissions(permissions)
+                .permissions(user.getPermissions())
                 .loginTime(Instant.now())
                 .build();
     }
@@ -0,0 +1,51 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.entity.SchedulerLock;
+import com.monochrome.Backend.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Lease-style lock in {@code scheduler_locks} so periodic jobs run on a single node at a time.
+ * A lease that is not released (node crash) simply lapses at {@code lockedUntil}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClusterLockService {
+
+    private static final String OWNER = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    public boolean tryLock(String name, Duration leaseTime) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (!schedulerLockRepository.existsById(name)) {
+            try {
+                tx.executeWithoutResult(status -> schedulerLockRepository.saveAndFlush(
+                        SchedulerLock.builder().name(name).lockedUntil(Instant.EPOCH).build()));
+            } catch (DataIntegrityViolationException ignored) {
+                // another node created the row first
+            }
+        }
+        Instant now = Instant.now();
+        Integer acquired = tx.execute(status ->
+                schedulerLockRepository.tryAcquire(name, OWNER, now, now.plus(leaseTime)));
+        return acquired != null && acquired == 1;
+    }
+
+    public void unlock(String name) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        tx.executeWithoutResult(status -> schedulerLockRepository.release(name, OWNER, Instant.now()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.dto.UserImportStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of one bulk import, updated by the import thread and read by status requests.
+ */
+class ImportJob {
+
+    enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final int total;
+    private final int maxReportedErrors;
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<UserImportStatus.RowError> errors = new ArrayList<>();
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    ImportJob(String id, int total, int maxReportedErrors) {
+        this.id = id;
+        this.total = total;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    String id() {
+        return id;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void finish(State outcome) {
+        finishedAt = Instant.now();
+        state = outcome;
+    }
+
+    void created(int count) {
+        created.addAndGet(count);
+        processed.addAndGet(count);
+    }
+
+    void fail(int row, String username, String message) {
+        failed.incrementAndGet();
+        processed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportStatus.RowError(row, username, message));
+            }
+        }
+    }
+
+    UserImportStatus snapshot() {
+        List<UserImportStatus.RowError> reported;
+        synchronized (errors) {
+            reported = List.copyOf(errors);
+        }
+        return UserImportStatus.builder()
+                .jobId(id)
+                .status(state.name())
+                .total(total)
+                .processed(processed.get())
+                .created(created.get())
+                .failed(failed.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .errors(reported)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.entity.RefreshToken;
+import com.monochrome.Backend.repository.RefreshTokenRepository;
+import com.monochrome.Backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Strict mode: every issue and revocation is written synchronously in the caller's transaction.
+ */
+@Service
+@ConditionalOnProperty(name = "app.refresh-token.store", havingValue = "jpa")
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final int maxSessionsPerUser;
+
+    public JpaRefreshTokenStore(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            @Value("${app.refresh-token.max-sessions-per-user:10}") int maxSessionsPerUser
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    @Override
+    @Transactional
+    public String issue(Long userId, Instant expiresAt) {
+        String token = issue(userId, RefreshTokenStore.newFamilyId(), expiresAt);
+        if (maxSessionsPerUser > 0) {
+            refreshTokenRepository.revokeLeastRecentlyUsed(userId, maxSessionsPerUser);
+        }
+        return token;
+    }
+
+    private String issue(Long userId, String familyId, Instant expiresAt) {
+        String token = RefreshTokenStore.newRawToken();
+        RefreshToken rt = RefreshToken.builder()
+                .tokenHash(RefreshTokenStore.hash(token))
+                .familyId(familyId)
+                .user(userRepository.getReferenceById(userId))
+                .issuedAt(Instant.now())
+                .expiresAt(expiresAt)
+                .build();
+        refreshTokenRepository.save(rt);
+        return token;
+    }
+
+    @Override
+    public Optional<ResolvedRefreshToken> find(String rawToken) {
+        return ResolvedRefreshToken.fromRows(refreshTokenRepository.findAuthRowsByTokenHash(RefreshTokenStore.hash(rawToken)));
+    }
+
+    @Override
+    @Transactional
+    public Optional<String> rotate(StoredRefreshToken current, Instant expiresAt) {
+        if (refreshTokenRepository.markRotated(current.tokenHash(), Instant.now()) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(issue(current.userId(), current.familyId(), expiresAt));
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    @Override
+    public List<StoredRefreshToken> liveTokens(Long userId) {
+        return refreshTokenRepository.findLiveByUserId(userId, Instant.now()).stream()
+                .map(StoredRefreshToken::of)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean revokeSession(Long userId, String familyId) {
+        return refreshTokenRepository.revokeSession(userId, familyId) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        refreshTokenRepository.revokeAllForUser(userId);
+    }
+}
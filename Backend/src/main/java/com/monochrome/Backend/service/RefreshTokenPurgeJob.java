@@ -0,0 +1,107 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Deletes expired and revoked refresh tokens in small, separately committed batches so the purge never
+ * holds long row locks on {@code refresh_tokens}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.refresh-token.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurgeJob {
+
+    private static final String LOCK_NAME = "refresh-token-purge";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ClusterLockService clusterLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long batchPauseMs;
+    private final Duration leaseTime;
+    private final Counter purged;
+    private final Timer duration;
+
+    public RefreshTokenPurgeJob(
+            RefreshTokenRepository refreshTokenRepository,
+            ClusterLockService clusterLockService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry registry,
+            @Value("${app.refresh-token.purge.batch-size:1000}") int batchSize,
+            @Value("${app.refresh-token.purge.max-batches:500}") int maxBatches,
+            @Value("${app.refresh-token.purge.batch-pause-ms:50}") long batchPauseMs,
+            @Value("${app.refresh-token.purge.lock-seconds:600}") long lockSeconds
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clusterLockService = clusterLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.batchPauseMs = batchPauseMs;
+        this.leaseTime = Duration.ofSeconds(lockSeconds);
+        this.purged = Counter.builder("auth.refresh_tokens.purged")
+                .description("Expired or revoked refresh tokens deleted by the purge job")
+                .register(registry);
+        this.duration = Timer.builder("auth.refresh_tokens.purge.duration")
+                .description("Wall time of one purge run")
+                .register(registry);
+    }
+
+    @Scheduled(initialDelayString = "${app.refresh-token.purge.initial-delay-ms:60000}",
+            fixedDelayString = "${app.refresh-token.purge.interval-ms:3600000}")
+    public void purge() {
+        if (!clusterLockService.tryLock(LOCK_NAME, leaseTime)) {
+            return;
+        }
+        try {
+            long total = duration.record(this::purgeBatches);
+            if (total > 0) {
+                log.info("Purged {} expired or revoked refresh tokens", total);
+            }
+        } finally {
+            clusterLockService.unlock(LOCK_NAME);
+        }
+    }
+
+    private long purgeBatches() {
+        Instant cutoff = Instant.now();
+        long total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            Integer deleted = transactionTemplate.execute(status ->
+                    refreshTokenRepository.deleteExpiredOrRevoked(cutoff, batchSize));
+            int n = deleted == null ? 0 : deleted;
+            total += n;
+            purged.increment(n);
+            if (n < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.monochrome.Backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence for opaque refresh tokens. Tokens are only ever looked up by the fixed-width hash returned
+ * from {@link #hash(String)}. Select the implementation with {@code app.refresh-token.store}.
+ * <p>
+ * Tokens are single use: {@link #rotate} retires the presented token and issues its successor in the same
+ * family, and presenting a retired token again is treated as theft of the family. A family is one session;
+ * {@code app.refresh-token.max-sessions-per-user} caps how many a user can hold, revoking the least recently
+ * used when a login goes over it.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Creates a new refresh token, starting a new family, for the user and returns its raw value.
+     */
+    String issue(Long userId, Instant expiresAt);
+
+    Optional<ResolvedRefreshToken> find(String rawToken);
+
+    /**
+     * Atomically retires {@code current} and returns the raw value of its successor, or empty if the token was
+     * no longer live, i.e. it has already been rotated by a concurrent or replayed request.
+     */
+    Optional<String> rotate(StoredRefreshToken current, Instant expiresAt);
+
+    void revokeFamily(String familyId);
+
+    /**
+     * The live token of each of the user's sessions, most recently used first.
+     */
+    List<StoredRefreshToken> liveTokens(Long userId);
+
+    /**
+     * Revokes one of the user's sessions, identified by its family; false if the user has no such live session.
+     */
+    boolean revokeSession(Long userId, String familyId);
+
+    void revokeAllForUser(Long userId);
+
+    static String newFamilyId() {
+        return UUID.randomUUID().toString();
+    }
+
+    static String newRawToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    static String hash(String rawToken) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
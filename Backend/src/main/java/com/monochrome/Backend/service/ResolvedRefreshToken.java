@@ -0,0 +1,22 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.dto.UserAuthView;
+import com.monochrome.Backend.repository.RefreshTokenAuthRow;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A presented refresh token together with the user it belongs to.
+ */
+public record ResolvedRefreshToken(StoredRefreshToken token, UserAuthView user) {
+
+    static Optional<ResolvedRefreshToken> fromRows(List<RefreshTokenAuthRow> rows) {
+        return UserAuthView.fromRows(rows).map(user -> {
+            RefreshTokenAuthRow first = rows.get(0);
+            StoredRefreshToken token = new StoredRefreshToken(first.getTokenHash(), user.getId(), first.getFamilyId(),
+                    first.getIssuedAt(), first.getExpiresAt(), first.isRotated(), first.isRevoked());
+            return new ResolvedRefreshToken(token, user);
+        });
+    }
+}
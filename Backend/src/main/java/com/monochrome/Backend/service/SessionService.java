@@ -0,0 +1,63 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.audit.AuditEvent;
+import com.monochrome.Backend.audit.AuthAuditLog;
+import com.monochrome.Backend.dto.SessionDto;
+import com.monochrome.Backend.repository.UserRepository;
+import com.monochrome.Backend.security.AuthMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lists and revokes a user's sessions. Revoking a session stops its refresh token; access tokens already
+ * issued for it run out on their own.
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserRepository userRepository;
+    private final AuthAuditLog auditLog;
+
+    public List<SessionDto> listSessions(String username) {
+        return userRepository.findIdByUsername(username)
+                .map(refreshTokenStore::liveTokens)
+                .orElse(List.of())
+                .stream()
+                .map(rt -> SessionDto.builder()
+                        .id(rt.familyId())
+                        .lastUsedAt(rt.issuedAt())
+                        .expiresAt(rt.expiresAt())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * @return false if the user has no live session with that id
+     */
+    public boolean revokeSession(String username, String sessionId) {
+        Optional<Long> userId = userRepository.findIdByUsername(username);
+        if (userId.isEmpty() || !refreshTokenStore.revokeSession(userId.get(), sessionId)) {
+            return false;
+        }
+        auditLog.record(AuditEvent.Type.SESSION_REVOKE, AuthMetrics.Outcome.SUCCESS, username);
+        return true;
+    }
+
+    /**
+     * @return false if there is no such user
+     */
+    public boolean revokeAllSessions(String username) {
+        Optional<Long> userId = userRepository.findIdByUsername(username);
+        if (userId.isEmpty()) {
+            return false;
+        }
+        refreshTokenStore.revokeAllForUser(userId.get());
+        auditLog.record(AuditEvent.Type.SESSION_REVOKE, AuthMetrics.Outcome.SUCCESS, username);
+        return true;
+    }
+}
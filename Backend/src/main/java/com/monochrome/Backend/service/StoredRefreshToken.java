@@ -0,0 +1,31 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.entity.RefreshToken;
+
+import java.time.Instant;
+
+/**
+ * A refresh token as seen by the stores. {@code rotated} marks a token already exchanged for its successor;
+ * it is kept until it expires so presenting it again can be recognised as reuse of the {@code familyId}.
+ */
+public record StoredRefreshToken(String tokenHash, Long userId, String familyId, Instant issuedAt,
+                                 Instant expiresAt, boolean rotated, boolean revoked) {
+
+    static StoredRefreshToken of(RefreshToken rt) {
+        // the user proxy hands out its id without being initialised
+        return new StoredRefreshToken(rt.getTokenHash(), rt.getUser().getId(), rt.getFamilyId(), rt.getIssuedAt(),
+                rt.getExpiresAt(), rt.isRotated(), rt.isRevoked());
+    }
+
+    public boolean isUsable(Instant now) {
+        return !revoked && !rotated && expiresAt.isAfter(now);
+    }
+
+    public StoredRefreshToken asRotated() {
+        return new StoredRefreshToken(tokenHash, userId, familyId, issuedAt, expiresAt, true, revoked);
+    }
+
+    public StoredRefreshToken asRevoked() {
+        return new StoredRefreshToken(tokenHash, userId, familyId, issuedAt, expiresAt, rotated, true);
+    }
+}
@@ -0,0 +1,32 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position of the last user on a listing page. Opaque to clients: base64url of
+ * {@code epochSecond.nano.id}.
+ */
+record UserCursor(Instant createdAt, long id) {
+
+    String encode() {
+        String raw = createdAt.getEpochSecond() + "." + createdAt.getNano() + "." + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static UserCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split("\\.");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            return new UserCursor(Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+                    Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.monochrome.Backend.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monochrome.Backend.dto.UserImportRow;
+import com.monochrome.Backend.exception.InvalidRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parses import rows out of a request body. The body is read incrementally rather than as one string, but all
+ * rows, up to {@code maxRows}, are collected into a list before the job starts and the 202 goes out. CSV needs
+ * a header row naming the columns ({@code username,email,password,name,department,role,permissions}, any
+ * order); permissions are separated by {@code |}. JSON is an array of objects with the same fields and
+ * {@code permissions} as an array.
+ */
+final class UserImportReader {
+
+    record ParsedRow(int row, UserImportRow data, String error) {
+    }
+
+    private UserImportReader() {
+    }
+
+    static List<ParsedRow> readCsv(InputStream in, int maxRows) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new InvalidRequestException("CSV is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = splitCsvLine(stripBom(headerLine));
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("username", "email", "password", "name", "role")) {
+            if (!columns.containsKey(required)) {
+                throw new InvalidRequestException("CSV header is missing column '" + required + "'");
+            }
+        }
+
+        List<ParsedRow> rows = new ArrayList<>();
+        String line;
+        int row = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            checkLimit(row, maxRows);
+            List<String> cells;
+            try {
+                cells = splitCsvLine(line);
+            } catch (IllegalArgumentException e) {
+                rows.add(new ParsedRow(row, null, e.getMessage()));
+                continue;
+            }
+            if (cells.size() != header.size()) {
+                rows.add(new ParsedRow(row, null, "Expected " + header.size() + " columns, found " + cells.size()));
+                continue;
+            }
+            rows.add(new ParsedRow(row, UserImportRow.builder()
+                    .username(cell(cells, columns, "username"))
+                    .email(cell(cells, columns, "email"))
+                    .password(cell(cells, columns, "password"))
+                    .name(cell(cells, columns, "name"))
+                    .department(cell(cells, columns, "department"))
+                    .role(cell(cells, columns, "role"))
+                    .permissions(permissions(cell(cells, columns, "permissions")))
+                    .build(), null));
+        }
+        return rows;
+    }
+
+    static List<ParsedRow> readJson(InputStream in, ObjectMapper mapper, int maxRows) throws IOException {
+        List<ParsedRow> rows = new ArrayList<>();
+        try (JsonParser parser = mapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidRequestException("Expected a JSON array of users");
+            }
+            int row = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                row++;
+                checkLimit(row, maxRows);
+                rows.add(new ParsedRow(row, mapper.readValue(parser, UserImportRow.class), null));
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new InvalidRequestException("Expected a JSON object for row " + (row + 1));
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        return rows;
+    }
+
+    private static void checkLimit(int row, int maxRows) {
+        if (row > maxRows) {
+            throw new InvalidRequestException("Import is limited to " + maxRows + " rows");
+        }
+    }
+
+    private static String cell(List<String> cells, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            return null;
+        }
+        String value = cells.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Set<String> permissions(String value) {
+        if (value == null) {
+            return Set.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : value.split("\\|")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        return names;
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    /**
+     * RFC 4180 fields on a single line: quoted fields may contain commas and doubled quotes.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"' && cell.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
@@ -0,0 +1,313 @@
+package com.monochrome.Backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monochrome.Backend.dto.UserImportRow;
+import com.monochrome.Backend.dto.UserImportStatus;
+import com.monochrome.Backend.entity.Permission;
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.repository.PermissionRepository;
+import com.monochrome.Backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk user import for onboarding whole departments. The body is parsed up front, then rows are processed in
+ * chunks on a background thread:
+ * <ul>
+ *     <li>uniqueness is checked with one {@code IN} query per chunk for usernames and one for emails,</li>
+ *     <li>passwords are hashed in parallel on a dedicated pool so logins keep the shared hash executor,</li>
+ *     <li>users and their permission links are written with JDBC batch inserts in one transaction per chunk.</li>
+ * </ul>
+ * Progress and per-row errors are kept in memory for {@code app.users.import.retention-minutes}.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String INSERT_USER = "INSERT INTO users "
+            + "(username, email, password, name, department, role, enabled, created_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String SELECT_IDS = "SELECT id, username FROM users WHERE username IN (:usernames)";
+    private static final String INSERT_PERMISSION = "INSERT INTO user_permissions (user_id, permission_id) VALUES (?, ?)";
+    private static final int MAX_BCRYPT_BYTES = 72;
+
+    private final UserRepository userRepository;
+    private final PermissionRepository permissionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final int chunkSize;
+    private final int maxRows;
+    private final int maxReportedErrors;
+    private final ExecutorService runner;
+    private final ExecutorService hashPool;
+    private final Cache<String, ImportJob> jobs;
+
+    public UserImportService(
+            UserRepository userRepository,
+            PermissionRepository permissionRepository,
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedJdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.users.import.chunk-size:500}") int chunkSize,
+            @Value("${app.users.import.max-rows:50000}") int maxRows,
+            @Value("${app.users.import.max-reported-errors:1000}") int maxReportedErrors,
+            @Value("${app.users.import.hash-threads:0}") int hashThreads,
+            @Value("${app.users.import.retention-minutes:60}") long retentionMinutes
+    ) {
+        this.userRepository = userRepository;
+        this.permissionRepository = permissionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+        this.maxReportedErrors = maxReportedErrors;
+        // one import at a time per node; further jobs queue behind it
+        this.runner = Executors.newSingleThreadExecutor(daemon("user-import"));
+        this.hashPool = Executors.newFixedThreadPool(
+                hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors(), daemon("user-import-hash"));
+        this.jobs = Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(retentionMinutes)).build();
+    }
+
+    public UserImportStatus submitCsv(InputStream body) throws IOException {
+        return submit(UserImportReader.readCsv(body, maxRows));
+    }
+
+    public UserImportStatus submitJson(InputStream body) throws IOException {
+        return submit(UserImportReader.readJson(body, objectMapper, maxRows));
+    }
+
+    public Optional<UserImportStatus> status(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(ImportJob::snapshot);
+    }
+
+    private UserImportStatus submit(List<UserImportReader.ParsedRow> rows) {
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), rows.size(), maxReportedErrors);
+        jobs.put(job.id(), job);
+        runner.execute(() -> run(job, rows));
+        return job.snapshot();
+    }
+
+    private void run(ImportJob job, List<UserImportReader.ParsedRow> rows) {
+        job.start();
+        try {
+            ImportContext context = new ImportContext();
+            for (int from = 0; from < rows.size(); from += chunkSize) {
+                importChunk(job, rows.subList(from, Math.min(rows.size(), from + chunkSize)), context);
+            }
+            job.finish(ImportJob.State.COMPLETED);
+            log.info("User import {} finished: {}", job.id(), job.snapshot().getCreated());
+        } catch (RuntimeException e) {
+            log.error("User import {} failed", job.id(), e);
+            job.finish(ImportJob.State.FAILED);
+        }
+    }
+
+    private void importChunk(ImportJob job, List<UserImportReader.ParsedRow> chunk, ImportContext context) {
+        List<Candidate> candidates = new ArrayList<>(chunk.size());
+        for (UserImportReader.ParsedRow row : chunk) {
+            String username = row.data() == null ? null : row.data().getUsername();
+            String error = row.error() != null ? row.error() : validate(row.data(), context);
+            if (error != null) {
+                job.fail(row.row(), username, error);
+                continue;
+            }
+            candidates.add(new Candidate(row.row(), row.data(), Role.valueOf(row.data().getRole().toUpperCase(Locale.ROOT)),
+                    context.permissionIds(row.data().getPermissions())));
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // one query per column for the whole chunk instead of existsByUsername/existsByEmail per row
+        Set<String> takenUsernames = lowerCase(userRepository.findExistingUsernames(
+                candidates.stream().map(c -> c.data().getUsername()).toList()));
+        Set<String> takenEmails = lowerCase(userRepository.findExistingEmails(
+                candidates.stream().map(c -> c.data().getEmail()).toList()));
+        List<Candidate> fresh = new ArrayList<>(candidates.size());
+        for (Candidate c : candidates) {
+            if (takenUsernames.contains(c.data().getUsername().toLowerCase(Locale.ROOT))) {
+                job.fail(c.row(), c.data().getUsername(), "Username already exists");
+            } else if (takenEmails.contains(c.data().getEmail().toLowerCase(Locale.ROOT))) {
+                job.fail(c.row(), c.data().getUsername(), "Email already exists");
+            } else {
+                fresh.add(c);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<String>> hashing = new ArrayList<>(fresh.size());
+        for (Candidate c : fresh) {
+            hashing.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(c.data().getPassword()), hashPool));
+        }
+        List<String> hashes = hashing.stream().map(CompletableFuture::join).toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(fresh, hashes));
+            job.created(fresh.size());
+        } catch (DataAccessException e) {
+            // typically a user created concurrently between the uniqueness check and the insert
+            String message = "Not inserted: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            fresh.forEach(c -> job.fail(c.row(), c.data().getUsername(), message));
+        }
+    }
+
+    private void insert(List<Candidate> users, List<String> hashes) {
+        Timestamp now = Timestamp.from(Instant.now());
+        AtomicInteger index = new AtomicInteger();
+        jdbcTemplate.batchUpdate(INSERT_USER, users, users.size(), (ps, c) -> {
+            UserImportRow data = c.data();
+            ps.setString(1, data.getUsername());
+            ps.setString(2, data.getEmail());
+            ps.setString(3, hashes.get(index.getAndIncrement()));
+            ps.setString(4, data.getName());
+            ps.setString(5, data.getDepartment());
+            ps.setString(6, c.role().name());
+            ps.setBoolean(7, true);
+            ps.setTimestamp(8, now);
+        });
+
+        List<String> usernames = users.stream().map(c -> c.data().getUsername()).toList();
+        Map<String, Long> ids = new HashMap<>();
+        namedJdbcTemplate.query(SELECT_IDS, Map.of("usernames", usernames),
+                (RowCallbackHandler) rs -> ids.put(rs.getString("username").toLowerCase(Locale.ROOT), rs.getLong("id")));
+
+        List<long[]> links = new ArrayList<>();
+        for (Candidate c : users) {
+            Long userId = ids.get(c.data().getUsername().toLowerCase(Locale.ROOT));
+            for (Long permissionId : c.permissionIds()) {
+                links.add(new long[]{userId, permissionId});
+            }
+        }
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PERMISSION, links, links.size(), (ps, link) -> {
+                ps.setLong(1, link[0]);
+                ps.setLong(2, link[1]);
+            });
+        }
+    }
+
+    private String validate(UserImportRow data, ImportContext context) {
+        if (isBlank(data.getUsername()) || isBlank(data.getEmail()) || isBlank(data.getPassword())
+                || isBlank(data.getName()) || isBlank(data.getRole())) {
+            return "username, email, password, name and role are required";
+        }
+        if (!data.getEmail().contains("@")) {
+            return "Invalid email";
+        }
+        if (data.getPassword().length() < 8 || data.getPassword().getBytes(StandardCharsets.UTF_8).length > MAX_BCRYPT_BYTES) {
+            return "Password must be 8 to 72 bytes long";
+        }
+        try {
+            Role.valueOf(data.getRole().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return "Unknown role '" + data.getRole() + "'";
+        }
+        if (data.getPermissions() != null) {
+            for (String name : data.getPermissions()) {
+                if (context.permissionId(name) == null) {
+                    return "Unknown permission '" + name + "'";
+                }
+            }
+        }
+        if (!context.usernames.add(data.getUsername().toLowerCase(Locale.ROOT))) {
+            return "Duplicate username in import";
+        }
+        if (!context.emails.add(data.getEmail().toLowerCase(Locale.ROOT))) {
+            return "Duplicate email in import";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Set<String> lowerCase(List<String> values) {
+        Set<String> set = new HashSet<>(values.size() * 2);
+        values.forEach(v -> set.add(v.toLowerCase(Locale.ROOT)));
+        return set;
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        hashPool.shutdownNow();
+    }
+
+    private record Candidate(int row, UserImportRow data, Role role, List<Long> permissionIds) {
+    }
+
+    /**
+     * Per-job state: names already seen in this import and the permission ids resolved so far.
+     */
+    private class ImportContext {
+
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        private final Map<String, Optional<Long>> permissions = new HashMap<>();
+
+        Long permissionId(String name) {
+            // findByName goes through the Hibernate query cache, so repeated jobs rarely hit the database
+            return permissions.computeIfAbsent(name, n -> permissionRepository.findByName(n).map(Permission::getId))
+                    .orElse(null);
+        }
+
+        List<Long> permissionIds(Set<String> names) {
+            if (names == null || names.isEmpty()) {
+                return List.of();
+            }
+            List<Long> ids = new ArrayList<>(names.size());
+            names.forEach(name -> ids.add(permissionId(name)));
+            return ids;
+        }
+    }
+}
@@ -1,24 +1,127 @@
 package com.monochrome.Backend.service;
 
+import com.monochrome.Backend.dto.UserAuthView;
 import com.monochrome.Backend.dto.UserDto;
-import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.dto.UserPage;
+import com.monochrome.Backend.dto.UserSummary;
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.exception.InvalidRequestException;
+import com.monochrome.Backend.repository.UserListRow;
+import com.monochrome.Backend.repository.UserPermissionRow;
 import com.monochrome.Backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final UserRepository userRepository;
     private final AuthService authService;
+    private final UserVersionCache userVersionCache;
 
+    @Transactional
     public UserDto getCurrentUser() {
+        return loadUser(currentUsername()).user();
+    }
+
+    public String currentUsername() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        String username = principal instanceof UserDetails ? ((UserDetails) principal).getUsername() : principal.toString();
-        User user = userRepository.findByUsername(username).orElseThrow();
-        return authService.toDto(user);
+        return principal instanceof UserDetails ? ((UserDetails) principal).getUsername() : principal.toString();
+    }
+
+    /**
+     * ETag of the user's {@code /me} representation, from the version cache; empty if the user is gone.
+     */
+    public Optional<String> eTag(String username) {
+        return userVersionCache.version(username).map(UserService::eTag);
+    }
+
+    // not read-only: this refills the version cache and must not be served by a replica
+    @Transactional
+    public VersionedUser loadUser(String username) {
+        UserAuthView user = UserAuthView.fromRows(userRepository.findAuthRowsByUsername(username)).orElseThrow();
+        userVersionCache.put(username, user.getVersion());
+        return new VersionedUser(authService.toDto(user), eTag(user.getVersion()));
+    }
+
+    // weak: loginTime differs between otherwise identical responses
+    private static String eTag(long version) {
+        return "W/\"v" + version + "\"";
+    }
+
+    public record VersionedUser(UserDto user, String eTag) {
+    }
+
+    /**
+     * Keyset-paginated listing for the admin panel: one query for the page (fetching one extra row to know
+     * whether another page follows) and one for the permissions of every user on it.
+     */
+    @Transactional(readOnly = true)
+    public UserPage listUsers(String role, String department, Boolean enabled, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Role roleFilter = parseRole(role);
+        UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+
+        List<UserListRow> rows = userRepository.findListPage(roleFilter, department, enabled,
+                after == null ? null : after.createdAt(), after == null ? null : after.id(), size + 1);
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        Map<Long, Set<String>> permissions = new HashMap<>();
+        if (!rows.isEmpty()) {
+            List<Long> ids = rows.stream().map(UserListRow::id).toList();
+            for (UserPermissionRow row : userRepository.findPermissionNames(ids)) {
+                permissions.computeIfAbsent(row.getUserId(), id -> new HashSet<>()).add(row.getPermission());
+            }
+        }
+
+        List<UserSummary> items = new ArrayList<>(rows.size());
+        for (UserListRow row : rows) {
+            items.add(UserSummary.builder()
+                    .id(row.id())
+                    .username(row.username())
+                    .name(row.name())
+                    .email(row.email())
+                    .department(row.department())
+                    .role(row.role().name())
+                    .enabled(row.enabled())
+                    .createdAt(row.createdAt())
+                    .permissions(permissions.getOrDefault(row.id(), Set.of()))
+                    .build());
+        }
+        UserListRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        String next = hasMore ? new UserCursor(last.createdAt(), last.id()).encode() : null;
+        return new UserPage(items, next);
+    }
+
+    private static Role parseRole(String role) {
+        if (role == null || role.isBlank()) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Unknown role '" + role + "'");
+        }
     }
 }
@@ -0,0 +1,62 @@
+package com.monochrome.Backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monochrome.Backend.invalidation.InvalidationEvent;
+import com.monochrome.Backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Username to {@code User.version}, so a conditional {@code /me} can be answered without loading the user.
+ * A miss costs one single-column lookup. Entries are dropped on invalidation events; {@code ttl-seconds} only
+ * backstops a missed event.
+ */
+@Component
+public class UserVersionCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> versions;
+
+    public UserVersionCache(
+            UserRepository userRepository,
+            @Value("${app.users.version-cache.max-size:10000}") long maxSize,
+            @Value("${app.users.version-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<Long> version(String username) {
+        Long cached = versions.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Long> loaded = userRepository.findVersionByUsername(username);
+        loaded.ifPresent(version -> versions.put(username, version));
+        return loaded;
+    }
+
+    public void put(String username, long version) {
+        // never move an entry backwards if a newer version was cached meanwhile
+        versions.asMap().merge(username, version, Math::max);
+    }
+
+    public void invalidate(String username) {
+        versions.invalidate(username);
+    }
+
+    @EventListener
+    public void onInvalidation(InvalidationEvent event) {
+        if (event.kind() == InvalidationEvent.Kind.USER) {
+            invalidate(event.key());
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.monochrome.Backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.monochrome.Backend.repository.RefreshTokenAuthRow;
+import com.monochrome.Backend.repository.RefreshTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Default store: an in-memory index keyed by token hash, with inserts persisted to {@code refresh_tokens}
+ * in JDBC batches by a single background writer.
+ * <p>
+ * {@code app.refresh-token.durability=async} returns as soon as the token is indexed;
+ * {@code group-commit} blocks the caller until the batch containing its token has committed.
+ * Revocation always drains pending inserts and deletes synchronously so a revoked token cannot reappear.
+ * A batch that fails is retried one row at a time: a row the database rejects is dropped on its own and only
+ * its issuer sees the failure, while anything else puts the inserts back on the queue and the writer backs off.
+ * Lookups read the token's row on the primary, in the same query that loads its user, so state changed by
+ * other nodes is seen; the index only has to cover tokens that have not been written yet.
+ * Rotation swaps the token in the local index first, then confirms with a conditional update on the primary,
+ * which is what decides the winner when the same token is presented on two nodes; the successor is inserted in
+ * that same transaction rather than queued, so the old token is never retired without its replacement.
+ * Only logins go through the queue; the per-user session cap is applied by the writer, in the transaction that
+ * inserts the new sessions, so logins stay off the write path.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.refresh-token.store", havingValue = "write-behind", matchIfMissing = true)
+public class WriteBehindRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO refresh_tokens (token_hash, family_id, user_id, issued_at, expires_at, rotated, revoked) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final long MAX_RETRY_BACKOFF_MS = 30_000;
+
+    public enum Durability { ASYNC, GROUP_COMMIT }
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Durability durability;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxSessionsPerUser;
+    private final long flushIntervalMs;
+
+    private final Cache<String, StoredRefreshToken> index;
+    private final ConcurrentHashMap<Long, Set<String>> hashesByUser = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<PendingInsert> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService writer;
+    // guarded by flushLock; the background writer skips its runs until retryAt after a failed write
+    private long retryBackoffMs;
+    private volatile long retryAt;
+
+    public WriteBehindRefreshTokenStore(
+            RefreshTokenRepository refreshTokenRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.refresh-token.durability:async}") String durability,
+            @Value("${app.refresh-token.batch-size:100}") int batchSize,
+            @Value("${app.refresh-token.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.refresh-token.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${app.refresh-token.index.max-size:100000}") long indexMaxSize,
+            @Value("${app.refresh-token.max-sessions-per-user:10}") int maxSessionsPerUser
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.durability = Durability.valueOf(durability.trim().toUpperCase().replace('-', '_'));
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.flushIntervalMs = flushIntervalMs;
+        this.index = Caffeine.newBuilder()
+                .maximumSize(indexMaxSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .removalListener((String hash, StoredRefreshToken rt, RemovalCause cause) -> {
+                    // REPLACED keeps the hash indexed; any other cause, explicit removal included, drops it
+                    if (hash != null && rt != null && cause != RemovalCause.REPLACED) {
+                        hashesByUser.computeIfPresent(rt.userId(), (id, hashes) -> {
+                            hashes.remove(hash);
+                            return hashes.isEmpty() ? null : hashes;
+                        });
+                    }
+                })
+                .build();
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "refresh-token-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        writer.scheduleWithFixedDelay(this::flushInBackground, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String issue(Long userId, Instant expiresAt) {
+        String token = RefreshTokenStore.newRawToken();
+        StoredRefreshToken rt = new StoredRefreshToken(RefreshTokenStore.hash(token), userId,
+                RefreshTokenStore.newFamilyId(), Instant.now(), expiresAt, false, false);
+        remember(rt);
+
+        PendingInsert pending = new PendingInsert(rt, new CompletableFuture<>());
+        queue.add(pending);
+        int depth = queued.incrementAndGet();
+        if (depth >= queueCapacity) {
+            // writer is falling behind; make the caller pay for the flush instead of growing without limit
+            flush();
+            if (queued.get() >= queueCapacity && queue.remove(pending)) {
+                queued.decrementAndGet();
+                index.invalidate(rt.tokenHash());
+                throw new IllegalStateException("Refresh token writer is not keeping up");
+            }
+        } else if (depth >= batchSize) {
+            writer.execute(this::flushInBackground);
+        }
+        if (durability == Durability.GROUP_COMMIT) {
+            await(pending.persisted());
+        }
+        return token;
+    }
+
+    @Override
+    public Optional<ResolvedRefreshToken> find(String rawToken) {
+        String hash = RefreshTokenStore.hash(rawToken);
+        // always read the row: it carries logouts, rotations and revocations made on other nodes
+        List<RefreshTokenAuthRow> rows = refreshTokenRepository.findAuthRowsByTokenHash(hash);
+        if (rows.isEmpty() && index.getIfPresent(hash) != null) {
+            // issued here moments ago and still waiting in the insert queue
+            flush();
+            rows = refreshTokenRepository.findAuthRowsByTokenHash(hash);
+        }
+        Optional<ResolvedRefreshToken> stored = ResolvedRefreshToken.fromRows(rows);
+        stored.ifPresentOrElse(resolved -> remember(resolved.token()), () -> index.invalidate(hash));
+        return stored;
+    }
+
+    @Override
+    public Optional<String> rotate(StoredRefreshToken current, Instant expiresAt) {
+        StoredRefreshToken rotated = current.asRotated();
+        // the swap only succeeds for the first local caller holding the live token
+        StoredRefreshToken swapped = index.asMap().compute(current.tokenHash(),
+                (hash, cached) -> cached == null || cached.equals(current) ? rotated : cached);
+        if (swapped != rotated) {
+            return Optional.empty();
+        }
+        hashesByUser.computeIfAbsent(current.userId(), id -> ConcurrentHashMap.newKeySet()).add(current.tokenHash());
+
+        // the token may still be waiting in the insert queue
+        flush();
+        String token = RefreshTokenStore.newRawToken();
+        StoredRefreshToken successor = new StoredRefreshToken(RefreshTokenStore.hash(token), current.userId(),
+                current.familyId(), Instant.now(), expiresAt, false, false);
+        Boolean retired;
+        try {
+            retired = transactionTemplate.execute(status -> {
+                if (refreshTokenRepository.markRotated(current.tokenHash(), Instant.now()) == 0) {
+                    return false;
+                }
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, successor));
+                return true;
+            });
+        } catch (RuntimeException e) {
+            // rolled back, so the presented token is still live and may be retried
+            index.asMap().replace(current.tokenHash(), rotated, current);
+            throw e;
+        }
+        if (!Boolean.TRUE.equals(retired)) {
+            return Optional.empty();
+        }
+        remember(successor);
+        return Optional.of(token);
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        // a full scan of the index, but only on the rare replay path
+        index.asMap().replaceAll((hash, rt) -> familyId.equals(rt.familyId()) ? rt.asRevoked() : rt);
+        flush();
+        transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.revokeFamily(familyId));
+    }
+
+    @Override
+    public List<StoredRefreshToken> liveTokens(Long userId) {
+        flush();
+        return refreshTokenRepository.findLiveByUserId(userId, Instant.now()).stream()
+                .map(StoredRefreshToken::of)
+                .toList();
+    }
+
+    @Override
+    public boolean revokeSession(Long userId, String familyId) {
+        Set<String> hashes = hashesByUser.get(userId);
+        if (hashes != null) {
+            for (String hash : hashes) {
+                index.asMap().computeIfPresent(hash, (h, rt) -> familyId.equals(rt.familyId()) ? rt.asRevoked() : rt);
+            }
+        }
+        flush();
+        Integer revoked = transactionTemplate.execute(status -> refreshTokenRepository.revokeSession(userId, familyId));
+        return revoked != null && revoked > 0;
+    }
+
+    @Override
+    public void revokeAllForUser(Long userId) {
+        Set<String> hashes = hashesByUser.remove(userId);
+        if (hashes != null) {
+            for (String hash : hashes) {
+                index.asMap().computeIfPresent(hash, (h, rt) -> rt.asRevoked());
+            }
+        }
+        flush();
+        transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.revokeAllForUser(userId));
+    }
+
+    private void remember(StoredRefreshToken rt) {
+        index.put(rt.tokenHash(), rt);
+        hashesByUser.computeIfAbsent(rt.userId(), id -> ConcurrentHashMap.newKeySet()).add(rt.tokenHash());
+    }
+
+    private void flushInBackground() {
+        if (System.currentTimeMillis() < retryAt) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to persist refresh tokens", e);
+        }
+    }
+
+    /**
+     * Writes every pending insert. Failures are settled per insert rather than thrown, so a caller draining the
+     * queue is never failed by somebody else's token.
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            List<PendingInsert> batch = new ArrayList<>(batchSize);
+            List<PendingInsert> retry = List.of();
+            PendingInsert next;
+            while (retry.isEmpty() && (next = queue.poll()) != null) {
+                queued.decrementAndGet();
+                batch.add(next);
+                if (batch.size() == batchSize) {
+                    retry = write(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (retry.isEmpty() && !batch.isEmpty()) {
+                retry = write(batch);
+            }
+            if (retry.isEmpty()) {
+                retryBackoffMs = 0;
+                retryAt = 0;
+            } else {
+                queue.addAll(retry);
+                queued.addAndGet(retry.size());
+                retryBackoffMs = Math.min(Math.max(retryBackoffMs * 2, flushIntervalMs), MAX_RETRY_BACKOFF_MS);
+                retryAt = System.currentTimeMillis() + retryBackoffMs;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the inserts that should be tried again later, which is empty unless the database itself failed.
+     */
+    private List<PendingInsert> write(List<PendingInsert> batch) {
+        if (batch.size() > 1) {
+            try {
+                insert(batch);
+                return List.of();
+            } catch (RuntimeException e) {
+                log.warn("Refresh token batch of {} failed, inserting one at a time: {}", batch.size(), e.getMessage());
+            }
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            PendingInsert pending = batch.get(i);
+            try {
+                insert(List.of(pending));
+            } catch (DataIntegrityViolationException e) {
+                // e.g. the user was deleted since the token was issued; retrying cannot help
+                log.error("Dropping refresh token of user {}", pending.token().userId(), e);
+                index.invalidate(pending.token().tokenHash());
+                pending.persisted().completeExceptionally(e);
+            } catch (RuntimeException e) {
+                log.error("Failed to persist refresh tokens, retrying in the background", e);
+                return batch.subList(i, batch.size());
+            }
+        }
+        return List.of();
+    }
+
+    private void insert(List<PendingInsert> batch) {
+        List<String> evicted = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> bind(ps, pending.token()));
+            if (maxSessionsPerUser > 0) {
+                batch.stream()
+                        .map(pending -> pending.token().userId())
+                        .distinct()
+                        .forEach(userId -> evicted.addAll(revokeLeastRecentlyUsed(userId)));
+            }
+        });
+        // sessions pushed out by the cap may be indexed here as live
+        evicted.forEach(hash -> index.asMap().computeIfPresent(hash, (h, rt) -> rt.asRevoked()));
+        batch.forEach(p -> p.persisted().complete(null));
+    }
+
+    private static void bind(PreparedStatement ps, StoredRefreshToken rt) throws SQLException {
+        ps.setString(1, rt.tokenHash());
+        ps.setString(2, rt.familyId());
+        ps.setLong(3, rt.userId());
+        ps.setTimestamp(4, Timestamp.from(rt.issuedAt()));
+        ps.setTimestamp(5, Timestamp.from(rt.expiresAt()));
+        ps.setBoolean(6, rt.rotated());
+        ps.setBoolean(7, rt.revoked());
+    }
+
+    private List<String> revokeLeastRecentlyUsed(Long userId) {
+        List<String> live = refreshTokenRepository.findLiveTokenHashesByUserId(userId);
+        if (live.size() <= maxSessionsPerUser) {
+            return List.of();
+        }
+        List<String> evicted = live.subList(maxSessionsPerUser, live.size());
+        refreshTokenRepository.revokeByTokenHashes(evicted);
+        return evicted;
+    }
+
+    private void await(CompletableFuture<Void> persisted) {
+        try {
+            persisted.get(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while persisting refresh token", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to persist refresh token", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+        flush();
+        if (queued.get() > 0) {
+            log.error("Shutting down with {} refresh tokens not persisted", queued.get());
+        }
+    }
+
+    private record PendingInsert(StoredRefreshToken token, CompletableFuture<Void> persisted) {
+    }
+
+    private static class ExpireAtTokenExpiry implements Expiry<String, StoredRefreshToken> {
+
+        @Override
+        public long expireAfterCreate(String key, StoredRefreshToken rt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), rt.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoredRefreshToken rt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoredRefreshToken rt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.monochrome.Backend.verifier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Verifies access tokens issued by this backend without calling it per request. Public keys are fetched from
+ * {@code /.well-known/jwks.json} and cached by {@code kid}; the set is re-fetched when its {@code max-age}
+ * lapses (with {@code If-None-Match}) or when a token names an unknown {@code kid}, at most once per
+ * {@code minRefreshInterval}. If a refresh fails the keys already held keep working.
+ * <p>
+ * Depends only on jjwt and Jackson and is shipped as the {@code verifier} classifier jar.
+ */
+public class JwksTokenVerifier {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(5);
+
+    private final URI jwksUri;
+    private final HttpClient httpClient;
+    private final Duration minRefreshInterval;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JwtParser parser;
+    private final ReentrantLock fetchLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile String etag;
+    private volatile long expiresAtNanos;
+    private volatile long lastFetchNanos;
+    private volatile boolean fetched;
+
+    public JwksTokenVerifier(URI jwksUri) {
+        this(jwksUri, HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build(), Duration.ofSeconds(30));
+    }
+
+    public JwksTokenVerifier(URI jwksUri, HttpClient httpClient, Duration minRefreshInterval) {
+        this.jwksUri = jwksUri;
+        this.httpClient = httpClient;
+        this.minRefreshInterval = minRefreshInterval;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return key(header);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Returns the verified claims, or throws a {@link JwtException} for an invalid, expired or unknown-key token.
+     */
+    public Claims verify(String token) {
+        if (!fetched || System.nanoTime() - expiresAtNanos > 0) {
+            refresh(false);
+        }
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private Key key(JwsHeader<?> header) {
+        if (!"RS256".equals(header.getAlgorithm()) || header.getKeyId() == null) {
+            throw new SignatureException("Token is not signed with a published RS256 key");
+        }
+        PublicKey key = keys.get(header.getKeyId());
+        if (key == null) {
+            refresh(true);
+            key = keys.get(header.getKeyId());
+        }
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id " + header.getKeyId());
+        }
+        return key;
+    }
+
+    /**
+     * Only one fetch is in flight at a time. Once keys are held, a caller whose cache merely lapsed goes on with
+     * them instead of waiting for it; the first fetch and an unknown {@code kid} wait and share its result.
+     *
+     * @param unknownKid a token named a key we do not hold; forces a full fetch instead of a conditional one
+     */
+    private void refresh(boolean unknownKid) {
+        if (fetched && !unknownKid) {
+            if (!fetchLock.tryLock()) {
+                return;
+            }
+        } else {
+            fetchLock.lock();
+        }
+        try {
+            fetch(unknownKid);
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    private void fetch(boolean unknownKid) {
+        long now = System.nanoTime();
+        if (fetched && now - lastFetchNanos < minRefreshInterval.toNanos()) {
+            return;
+        }
+        if (!unknownKid && fetched && now - expiresAtNanos < 0) {
+            // another thread refreshed while we waited for the lock
+            return;
+        }
+        lastFetchNanos = now;
+        fetched = true;
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(jwksUri).timeout(Duration.ofSeconds(5)).GET();
+            if (etag != null && !unknownKid) {
+                request.header("If-None-Match", etag);
+            }
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                keys = parse(response.body());
+                etag = response.headers().firstValue("ETag").orElse(null);
+            } else if (response.statusCode() != 304) {
+                throw new IOException("JWKS endpoint returned HTTP " + response.statusCode());
+            }
+            expiresAtNanos = now + maxAge(response).toNanos();
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            // keep verifying with the keys we have; retry after minRefreshInterval
+            expiresAtNanos = now + minRefreshInterval.toNanos();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, PublicKey> parse(String body) throws IOException, GeneralSecurityException {
+        Map<String, PublicKey> parsed = new HashMap<>();
+        KeyFactory rsa = KeyFactory.getInstance("RSA");
+        for (JsonNode jwk : mapper.readTree(body).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+            parsed.put(jwk.get("kid").asText(), rsa.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private static Duration maxAge(HttpResponse<?> response) {
+        return response.headers().firstValue("Cache-Control")
+                .map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(m -> Duration.ofSeconds(Long.parseLong(m.group(1))))
+                .orElse(DEFAULT_MAX_AGE);
+    }
+}
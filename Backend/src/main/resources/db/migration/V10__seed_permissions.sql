@@ -0,0 +1,8 @@
+-- Permission catalogue referenced by role checks and the user import; ignored where it already exists.
+insert ignore into permissions (id, name) values
+    (1, 'appointments'),
+    (2, 'services'),
+    (3, 'users'),
+    (4, 'analytics'),
+    (5, 'settings'),
+    (6, 'all');
@@ -0,0 +1,7 @@
+alter table refresh_tokens add column family_id varchar(36);
+alter table refresh_tokens add column rotated bit not null default 0;
+
+-- tokens issued before rotation each start their own family
+update refresh_tokens set family_id = concat('legacy-', id);
+alter table refresh_tokens modify family_id varchar(36) not null;
+create index idx_refresh_tokens_family_id on refresh_tokens (family_id);
@@ -0,0 +1,8 @@
+alter table refresh_tokens add column issued_at datetime(6);
+
+-- every token so far was issued for seven days
+update refresh_tokens set issued_at = expires_at - interval '7' day;
+alter table refresh_tokens modify issued_at datetime(6) not null;
+
+-- serves per-user revocation and the session cap; also backs fk_refresh_tokens_user
+create index idx_refresh_tokens_user_id_issued_at on refresh_tokens (user_id, issued_at);
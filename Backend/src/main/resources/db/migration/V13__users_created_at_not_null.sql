@@ -0,0 +1,4 @@
+-- the admin listing pages by created_at, so it cannot be left empty; rows inserted without one, before or after
+-- this migration, get the time of the write
+update users set created_at = current_timestamp(6) where created_at is null;
+alter table users modify created_at datetime(6) not null default current_timestamp(6);
@@ -0,0 +1,43 @@
+-- Schema that ddl-auto=update built from the entities before migrations were introduced. Databases created
+-- that way are recorded as this version (spring.flyway.baseline-on-migrate) and pick up from V2.
+
+create table users (
+    id bigint not null auto_increment,
+    username varchar(255) not null,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    name varchar(255) not null,
+    department varchar(255),
+    role enum ('ADMIN','SUPERADMIN') not null,
+    enabled bit not null,
+    created_at datetime(6),
+    primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+) engine=InnoDB;
+
+create table permissions (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    primary key (id),
+    constraint uk_permissions_name unique (name)
+) engine=InnoDB;
+
+create table user_permissions (
+    user_id bigint not null,
+    permission_id bigint not null,
+    primary key (permission_id, user_id),
+    constraint fk_user_permissions_user foreign key (user_id) references users (id),
+    constraint fk_user_permissions_permission foreign key (permission_id) references permissions (id)
+) engine=InnoDB;
+
+create table refresh_tokens (
+    id bigint not null auto_increment,
+    token varchar(512) not null,
+    user_id bigint not null,
+    expires_at datetime(6) not null,
+    revoked bit not null,
+    primary key (id),
+    constraint uk_refresh_tokens_token unique (token),
+    constraint fk_refresh_tokens_user foreign key (user_id) references users (id)
+) engine=InnoDB;
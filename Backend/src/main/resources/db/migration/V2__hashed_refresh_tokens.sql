@@ -0,0 +1,6 @@
+-- Refresh tokens are looked up by their SHA-256 instead of being stored as issued. Existing rows hold
+-- plaintext tokens, so they are dropped rather than carried over; those sessions sign in again.
+delete from refresh_tokens;
+alter table refresh_tokens drop column token;
+alter table refresh_tokens add column token_hash varchar(64) not null;
+alter table refresh_tokens add constraint uk_refresh_tokens_token_hash unique (token_hash);
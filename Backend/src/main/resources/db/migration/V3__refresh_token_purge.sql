@@ -0,0 +1,9 @@
+create index idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
+
+-- lease taken by the purge job so only one node runs it at a time
+create table scheduler_locks (
+    name varchar(64) not null,
+    locked_until datetime(6) not null,
+    locked_by varchar(255),
+    primary key (name)
+) engine=InnoDB;
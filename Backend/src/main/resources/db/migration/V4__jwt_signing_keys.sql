@@ -0,0 +1,9 @@
+create table jwt_signing_keys (
+    kid varchar(64) not null,
+    algorithm varchar(16) not null,
+    public_key varchar(1024) not null,
+    private_key varchar(4096) not null,
+    created_at datetime(6) not null,
+    activates_at datetime(6) not null,
+    primary key (kid)
+) engine=InnoDB;
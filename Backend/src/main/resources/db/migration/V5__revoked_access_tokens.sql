@@ -0,0 +1,11 @@
+create table revoked_access_tokens (
+    id bigint not null auto_increment,
+    jti varchar(36),
+    username varchar(255),
+    revoked_at datetime(6) not null,
+    expires_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_revoked_access_tokens_revoked_at on revoked_access_tokens (revoked_at);
+create index idx_revoked_access_tokens_expires_at on revoked_access_tokens (expires_at);
@@ -0,0 +1,4 @@
+-- keyset pagination of the admin user listing, optionally filtered by role or department
+create index idx_users_created_at_id on users (created_at, id);
+create index idx_users_role_created_at_id on users (role, created_at, id);
+create index idx_users_department_created_at_id on users (department, created_at, id);
@@ -0,0 +1,12 @@
+create table auth_audit_log (
+    id bigint not null auto_increment,
+    occurred_at datetime(6) not null,
+    event_type varchar(32) not null,
+    outcome varchar(32) not null,
+    username varchar(255),
+    client_ip varchar(45),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_auth_audit_log_occurred_at on auth_audit_log (occurred_at);
+create index idx_auth_audit_log_username_occurred_at on auth_audit_log (username, occurred_at);
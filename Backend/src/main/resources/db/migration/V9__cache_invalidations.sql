@@ -0,0 +1,10 @@
+create table cache_invalidations (
+    id bigint not null auto_increment,
+    kind varchar(16) not null,
+    cache_key varchar(255),
+    origin varchar(36) not null,
+    created_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_cache_invalidations_created_at on cache_invalidations (created_at);
@@ -0,0 +1,81 @@
+package com.monochrome.Backend;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Starts the prod profile on a database that ddl-auto=update built from the entities before migrations
+ * existed: Flyway records it as V1, applies everything after it, and Hibernate validates the result.
+ */
+@SpringBootTest(properties = {
+        "app.invalidation.transport=db",
+        // login returns only after the refresh token row is written
+        "app.refresh-token.durability=group-commit"})
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "prod"})
+class LegacySchemaUpgradeTests {
+
+    private static final String URL = "jdbc:h2:mem:legacy-upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) {
+        new ResourceDatabasePopulator(new ClassPathResource("db/legacy-schema.sql"))
+                .execute(new DriverManagerDataSource(URL, "sa", ""));
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void baselinesTheLegacySchemaAndAppliesEveryLaterMigration() {
+        assertThat(flyway.info().applied()).extracting(info -> info.getVersion().getVersion())
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 13).mapToObj(String::valueOf).toList());
+        assertThat(flyway.info().applied()[0].getType().isBaseline()).isTrue();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from refresh_tokens", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select version from users where username = 'veteran'", Long.class))
+                .isZero();
+        jdbcTemplate.update("insert into users (enabled, email, name, password, username, role) "
+                + "values (true, 'newcomer@gov.lk', 'Newcomer', 'x', 'newcomer', 'ADMIN')");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users where created_at is null", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void legacyUserSignsInAndGetsAStoredRefreshToken() throws Exception {
+        mvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"veteran\",\"password\":\"legacy-pass\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from refresh_tokens r join users u on u.id = r.user_id where u.username = 'veteran'",
+                Integer.class)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.monochrome.Backend;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application with the prod profile on a fresh H2 database: Flyway builds the schema and
+ * Hibernate validates the entities against it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:prod-profile;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.invalidation.transport=db"})
+@ActiveProfiles({"test", "prod"})
+class ProdProfileTests {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private List<ScheduledTaskHolder> scheduledTaskHolders;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    void migrationsBuildTheSchemaTheEntitiesExpect() {
+        assertThat(flyway.info().applied()).extracting(info -> info.getVersion().getVersion())
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 13).mapToObj(String::valueOf).toList());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from permissions", Integer.class)).isEqualTo(6);
+    }
+
+    @Test
+    void scheduledJobsRegisterWhileOtherBeansStayLazy() {
+        List<String> tasks = scheduledTaskHolders.stream()
+                .flatMap(holder -> holder.getScheduledTasks().stream())
+                .map(task -> task.getTask().getRunnable().toString())
+                .toList();
+
+        // nothing depends on the bus eagerly; its poll job alone must get it created
+        assertThat(tasks).anyMatch(task -> task.endsWith("DbInvalidationBus.poll"));
+        assertThat(context.getBeanFactory().containsSingleton("userImportService")).isFalse();
+    }
+}
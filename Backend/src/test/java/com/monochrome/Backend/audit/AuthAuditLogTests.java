@@ -0,0 +1,91 @@
+package com.monochrome.Backend.audit;
+
+import com.monochrome.Backend.security.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthAuditLogTests {
+
+    @Test
+    void ringBufferKeepsEveryElementFromConcurrentProducers() throws Exception {
+        RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            pool.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (buffer.offer(base + i) < 0) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        List<Integer> received = new ArrayList<>(producers * perProducer);
+        while (received.size() < producers * perProducer) {
+            buffer.drainTo(received, 256);
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        Collections.sort(received);
+        for (int i = 0; i < received.size(); i++) {
+            assertThat(received.get(i)).isEqualTo(i);
+        }
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void dropsWhenFullAndFlushesTheRestOnShutdown() throws Exception {
+        List<AuditEvent> sunk = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        AuditSink slowSink = batch -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sunk.addAll(batch);
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuthAuditLog log = new AuthAuditLog(slowSink, registry, true, "drop", 16, 4, 10);
+
+        for (int i = 0; i < 100; i++) {
+            log.record(AuditEvent.Type.LOGIN, AuthMetrics.Outcome.BAD_CREDENTIALS, "user" + i);
+        }
+        release.countDown();
+        log.shutdown();
+
+        double dropped = registry.get("auth.audit.events").tag("result", "dropped").counter().count();
+        double written = registry.get("auth.audit.events").tag("result", "written").counter().count();
+        assertThat(dropped).isPositive();
+        assertThat(written + dropped).isEqualTo(100);
+        assertThat(sunk).hasSize((int) written);
+    }
+
+    @Test
+    void blockPolicyLosesNothing() throws Exception {
+        List<AuditEvent> sunk = Collections.synchronizedList(new ArrayList<>());
+        AuthAuditLog log = new AuthAuditLog(sunk::addAll, new SimpleMeterRegistry(), true, "block", 16, 4, 10);
+
+        for (int i = 0; i < 1_000; i++) {
+            log.record(AuditEvent.Type.REFRESH, AuthMetrics.Outcome.SUCCESS, "user" + i);
+        }
+        log.shutdown();
+
+        assertThat(sunk).hasSize(1_000);
+    }
+}
@@ -0,0 +1,72 @@
+package com.monochrome.Backend.authorization;
+
+import com.monochrome.Backend.security.InternedUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteAuthorizationManagerTests {
+
+    private final RouteAuthorizationManager manager = RouteAuthorizationManager.builder()
+            .route(AccessRule.authenticated(), "/**")
+            .route(AccessRule.hasAnyRole("ADMIN", "SUPERADMIN"), "/api/admin/**")
+            .route(AccessRule.hasAnyPermission("users"), "/api/admin/users/*/sessions")
+            .route(AccessRule.permitAll(), "/api/auth/**", "/swagger-ui.html")
+            .build();
+
+    private static Authentication user(String... authorities) {
+        Set<GrantedAuthority> set = Set.copyOf(AuthorityUtils.createAuthorityList(authorities));
+        return new UsernamePasswordAuthenticationToken(new InternedUser("clerk", "", true, set), null, set);
+    }
+
+    private boolean granted(String path, Authentication authentication) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        return manager.authorize(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+    }
+
+    @Test
+    void mostSpecificPatternWinsRegardlessOfOrder() {
+        Authentication admin = user("ROLE_ADMIN");
+        Authentication userManager = user("ROLE_ADMIN", "PERM_USERS");
+        Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymous",
+                Set.of(new SimpleGrantedAuthority("ROLE_ANONYMOUS")));
+
+        assertThat(granted("/api/auth/login", anonymous)).isTrue();
+        assertThat(granted("/swagger-ui.html", anonymous)).isTrue();
+        assertThat(granted("/api/sessions", anonymous)).isFalse();
+        assertThat(granted("/api/sessions", admin)).isTrue();
+        assertThat(granted("/api/admin", admin)).isTrue();
+        assertThat(granted("/api/admin/users", user("ROLE_USER"))).isFalse();
+        assertThat(granted("/api/admin/users/clerk/sessions", admin)).isFalse();
+        assertThat(granted("/api/admin/users/clerk/sessions", userManager)).isTrue();
+        assertThat(granted("/api/admin/users/clerk/sessions", user("ROLE_SUPERADMIN", "PERM_ALL"))).isTrue();
+    }
+
+    @Test
+    void pathIsDecodedBeforeMatching() {
+        assertThat(granted("/api/%61dmin/users", user("ROLE_USER"))).isFalse();
+    }
+
+    @Test
+    void rejectsPatternsTheTrieCannotRepresent() {
+        assertThatThrownBy(() -> RouteAuthorizationManager.builder().route(AccessRule.permitAll(), "/api/**/users"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteAuthorizationManager.builder().route(AccessRule.permitAll(), "/swagger-ui/*.js"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteAuthorizationManager.builder()
+                .route(AccessRule.permitAll(), "/api/**")
+                .route(AccessRule.authenticated(), "/api/**"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
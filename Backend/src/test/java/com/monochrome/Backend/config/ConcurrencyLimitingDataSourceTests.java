@@ -0,0 +1,71 @@
+package com.monochrome.Backend.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitingDataSourceTests {
+
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+
+    private DataSource database() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:limited-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        return new DelegatingDataSource(h2) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (databaseDown.get()) {
+                    throw new SQLException("database unreachable");
+                }
+                return super.getConnection();
+            }
+        };
+    }
+
+    @Test
+    void permitIsReturnedOnceWhenTheConnectionIsClosed() throws SQLException {
+        ConcurrencyLimitingDataSource limited = new ConcurrencyLimitingDataSource(database(), 2, 100);
+
+        Connection connection = limited.getConnection();
+        assertThat(limited.availablePermits()).isEqualTo(1);
+        connection.close();
+        // a second close must not hand out an extra permit
+        connection.close();
+
+        assertThat(limited.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void permitIsReturnedWhenTheTargetFailsToConnect() {
+        ConcurrencyLimitingDataSource limited = new ConcurrencyLimitingDataSource(database(), 1, 100);
+        databaseDown.set(true);
+
+        assertThatThrownBy(limited::getConnection).hasMessage("database unreachable");
+
+        assertThat(limited.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void waitingForAPermitGivesUpAfterTheTimeout() throws SQLException {
+        ConcurrencyLimitingDataSource limited = new ConcurrencyLimitingDataSource(database(), 1, 200);
+
+        try (Connection held = limited.getConnection()) {
+            long start = System.nanoTime();
+            assertThatThrownBy(limited::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat((System.nanoTime() - start) / 1_000_000).isGreaterThanOrEqualTo(200);
+            assertThat(held.isClosed()).isFalse();
+        }
+
+        assertThat(limited.availablePermits()).isEqualTo(1);
+    }
+}
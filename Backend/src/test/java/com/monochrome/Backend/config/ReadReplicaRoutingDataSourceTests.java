@@ -0,0 +1,120 @@
+package com.monochrome.Backend.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaRoutingDataSourceTests {
+
+    private final AtomicBoolean replicaDown = new AtomicBoolean();
+    private ReadReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        DataSource flakyReplica = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (replicaDown.get()) {
+                    throw new SQLException("replica unreachable");
+                }
+                return super.getConnection();
+            }
+        };
+        routing = new ReadReplicaRoutingDataSource(primary, List.of(flakyReplica), Duration.ofMillis(300));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void clearCaller() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate setup = new JdbcTemplate(h2);
+        setup.execute("CREATE TABLE node (name VARCHAR(16))");
+        setup.update("INSERT INTO node VALUES (?)", name);
+        return h2;
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String readWriteNode() {
+        return readWrite.execute(status -> node());
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaAndEverythingElseThePrimary() {
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(readWriteNode()).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsFollowTheCallersOwnWriteForTheWindow() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "clerk", null, AuthorityUtils.NO_AUTHORITIES));
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = name"));
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "someone-else", null, AuthorityUtils.NO_AUTHORITIES));
+        assertThat(readOnlyNode()).isEqualTo("replica");
+
+        Thread.sleep(400);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "clerk", null, AuthorityUtils.NO_AUTHORITIES));
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void failedReplicaFallsBackToThePrimaryUntilHealthy() {
+        replicaDown.set(true);
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(routing.healthyReplicas()).isZero();
+
+        replicaDown.set(false);
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        routing.checkReplicas();
+        assertThat(routing.healthyReplicas()).isEqualTo(1);
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+}
@@ -0,0 +1,118 @@
+package com.monochrome.Backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.support.TestAccounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestAccounts.class)
+class AdminUserControllerTests {
+
+    private static final String DEPARTMENT = "Archives Department";
+    private static final Instant BASE = Instant.parse("2025-01-01T08:00:00Z");
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestAccounts accounts;
+
+    @BeforeEach
+    void seed() {
+        // archivist1 and archivist2 share a timestamp so paging has to break the tie on id
+        int[] minutes = {0, 1, 1, 2, 3};
+        for (int i = 0; i < minutes.length; i++) {
+            int n = i;
+            accounts.user("archivist" + n, "archivist-pass", user -> user
+                    .name("Archivist " + n)
+                    .department(DEPARTMENT)
+                    .role(n == 4 ? Role.SUPERADMIN : Role.ADMIN)
+                    .enabled(n != 3)
+                    .permissions(n % 2 == 0 ? Set.of(accounts.permission("records")) : Set.of())
+                    .createdAt(BASE.plusSeconds(60L * minutes[n])));
+        }
+    }
+
+    private String bearer() throws Exception {
+        return accounts.bearer("archivist0", "archivist-pass");
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder request, String bearer) throws Exception {
+        String body = mvc.perform(request.header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    @Test
+    void pagesNewestFirstWithoutGapsOrDuplicates() throws Exception {
+        String bearer = bearer();
+        List<String> usernames = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/admin/users")
+                    .param("department", DEPARTMENT)
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = page(request, bearer);
+            page.get("items").forEach(item -> usernames.add(item.get("username").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(usernames).containsExactly("archivist4", "archivist3", "archivist2", "archivist1", "archivist0");
+    }
+
+    @Test
+    void filtersAndLoadsPermissions() throws Exception {
+        JsonNode page = page(get("/api/admin/users")
+                .param("department", DEPARTMENT)
+                .param("role", "admin")
+                .param("enabled", "true"), bearer());
+
+        assertThat(page.get("items")).extracting(item -> item.get("username").asText())
+                .containsExactly("archivist2", "archivist1", "archivist0");
+        assertThat(page.get("items").get(0).get("permissions").get(0).asText()).isEqualTo("records");
+        assertThat(page.get("items").get(1).get("permissions")).isEmpty();
+        assertThat(page.get("nextCursor").isNull()).isTrue();
+    }
+
+    @Test
+    void rejectsBadParameters() throws Exception {
+        String bearer = bearer();
+        mvc.perform(get("/api/admin/users").param("cursor", "%%%").header("Authorization", bearer))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/admin/users").param("size", "1000").header("Authorization", bearer))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/admin/users").param("enabled", "maybe").header("Authorization", bearer))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,185 @@
+package com.monochrome.Backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monochrome.Backend.repository.UserRepository;
+import com.monochrome.Backend.service.RefreshTokenStore;
+import com.monochrome.Backend.support.TestAccounts;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestAccounts.class)
+class AuthControllerTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestAccounts accounts;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void seed() {
+        accounts.user("clerk", "clerk-pass", user -> user
+                .name("Counter Clerk")
+                .department("Land Registry Department")
+                .permissions(Set.of(accounts.permission("appointments"))));
+    }
+
+    private JsonNode login(String password) throws Exception {
+        return accounts.login("clerk", password);
+    }
+
+    private JsonNode refresh(String refreshToken) throws Exception {
+        String body = mvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    @Test
+    void loginMeRefreshAndLogout() throws Exception {
+        JsonNode auth = login("clerk-pass");
+        String bearer = "Bearer " + auth.get("token").asText();
+        String refreshToken = auth.get("refreshToken").asText();
+
+        mvc.perform(get("/api/auth/me").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("clerk"))
+                .andExpect(jsonPath("$.permissions[0]").value("appointments"));
+
+        JsonNode refreshed = refresh(refreshToken);
+        assertThat(refreshed.get("token").asText()).isNotEmpty();
+        refreshToken = refreshed.get("refreshToken").asText();
+
+        mvc.perform(get("/api/admin/demo").header("Authorization", bearer))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/api/auth/logout").header("Authorization", bearer))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/api/admin/demo").header("Authorization", bearer))
+                .andExpect(status().isUnauthorized());
+
+        mvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Refresh token expired or revoked"));
+    }
+
+    @Test
+    void replayedRefreshTokenRevokesItsFamily() throws Exception {
+        String first = login("clerk-pass").get("refreshToken").asText();
+        String second = refresh(first).get("refreshToken").asText();
+        String third = refresh(second).get("refreshToken").asText();
+        assertThat(Set.of(first, second, third)).hasSize(3);
+
+        // the stolen copy of an exchanged token is presented again
+        mvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + first + "\"}"))
+                .andExpect(status().isUnauthorized());
+
+        mvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + third + "\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Refresh token expired or revoked"));
+    }
+
+    @Test
+    void refreshTokenRevokedByAnotherNodeIsRejected() throws Exception {
+        String refreshToken = login("clerk-pass").get("refreshToken").asText();
+        Long userId = userRepository.findIdByUsername("clerk").orElseThrow();
+        // drains the insert queue, then the row is revoked behind this node's back
+        refreshTokenStore.liveTokens(userId);
+        jdbcTemplate.update("update refresh_tokens set revoked = true where user_id = ?", userId);
+        double revoked = refreshOutcomes("revoked");
+        double reused = refreshOutcomes("reused");
+
+        mvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Refresh token expired or revoked"));
+        assertThat(refreshOutcomes("revoked")).isEqualTo(revoked + 1);
+        assertThat(refreshOutcomes("reused")).isEqualTo(reused);
+    }
+
+    private double refreshOutcomes(String reason) {
+        return meterRegistry.get("auth.outcome").tag("flow", "refresh").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    void metricsEndpointsNeedTheAnalyticsPermission() throws Exception {
+        accounts.user("analyst", "analyst-pass", user -> user
+                .permissions(Set.of(accounts.permission("analytics"))));
+        accounts.user("bystander", "bystander-pass");
+        String bystander = accounts.bearer("bystander", "bystander-pass");
+
+        mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mvc.perform(get("/actuator/prometheus").header("Authorization", bystander))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/actuator/metrics").header("Authorization", bystander))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/actuator/metrics").header("Authorization", accounts.bearer("analyst", "analyst-pass")))
+                .andExpect(status().isOk());
+        mvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void garbageBearerTokenGetsJsonUnauthorized() throws Exception {
+        mvc.perform(get("/api/admin/demo").header("Authorization", "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.status").value(401))
+                .andExpect(jsonPath("$.error").value("Unauthorized"))
+                .andExpect(jsonPath("$.path").value("/api/admin/demo"));
+    }
+
+    @Test
+    void wrongPasswordIsUnauthorized() throws Exception {
+        mvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"clerk\",\"password\":\"nope\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+}
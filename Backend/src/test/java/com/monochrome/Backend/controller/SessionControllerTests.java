@@ -0,0 +1,124 @@
+package com.monochrome.Backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.repository.UserRepository;
+import com.monochrome.Backend.support.TestAccounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestAccounts.class)
+class SessionControllerTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestAccounts accounts;
+
+    @BeforeEach
+    void seed() {
+        accounts.user("roamer", "session-pass", user -> user
+                .name("Roaming Officer")
+                .department("Motor Traffic Department"));
+        accounts.user("supervisor", "session-pass", user -> user
+                .name("Shift Supervisor")
+                .department("Motor Traffic Department")
+                .permissions(Set.of(accounts.permission("users"))));
+    }
+
+    private JsonNode login(String username) throws Exception {
+        return accounts.login(username, "session-pass");
+    }
+
+    private void refresh(String refreshToken, ResultMatcher expected) throws Exception {
+        mvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(expected);
+    }
+
+    private JsonNode sessions(String bearer) throws Exception {
+        String body = mvc.perform(get("/api/sessions").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    @Test
+    void loginsOverTheCapEvictTheLeastRecentlyUsedSession() throws Exception {
+        String oldest = login("roamer").get("refreshToken").asText();
+        String middle = login("roamer").get("refreshToken").asText();
+        JsonNode newest = login("roamer");
+        String bearer = "Bearer " + newest.get("token").asText();
+
+        JsonNode listed = sessions(bearer);
+        assertThat(listed).hasSize(2);
+        refresh(oldest, status().isUnauthorized());
+
+        // the most recently used session is listed first
+        mvc.perform(delete("/api/sessions/" + listed.get(0).get("id").asText()).header("Authorization", bearer))
+                .andExpect(status().isNoContent());
+        refresh(newest.get("refreshToken").asText(), status().isUnauthorized());
+        refresh(middle, status().isOk());
+
+        mvc.perform(delete("/api/sessions/not-a-session").header("Authorization", bearer))
+                .andExpect(status().isNotFound());
+
+        // an admin without the users permission cannot revoke other users' sessions
+        mvc.perform(delete("/api/admin/users/supervisor/sessions").header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+
+        String admin = "Bearer " + login("supervisor").get("token").asText();
+        mvc.perform(delete("/api/admin/users/roamer/sessions").header("Authorization", admin))
+                .andExpect(status().isNoContent());
+        assertThat(sessions(bearer)).isEmpty();
+        mvc.perform(delete("/api/admin/users/nobody/sessions").header("Authorization", admin))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void revokedPermissionStopsWorkingBeforeTheAccessTokenExpires() throws Exception {
+        // a user of its own: the other test needs supervisor to keep the permission
+        User deputy = accounts.user("deputy", "session-pass", user -> user
+                .name("Deputy Supervisor")
+                .department("Motor Traffic Department")
+                .permissions(new HashSet<>(Set.of(accounts.permission("users")))));
+        String bearer = "Bearer " + login("deputy").get("token").asText();
+        mvc.perform(delete("/api/admin/users/roamer/sessions").header("Authorization", bearer))
+                .andExpect(status().isNoContent());
+
+        deputy.getPermissions().clear();
+        userRepository.save(deputy);
+
+        mvc.perform(delete("/api/admin/users/roamer/sessions").header("Authorization", bearer))
+                .andExpect(status().isForbidden());
+    }
+}
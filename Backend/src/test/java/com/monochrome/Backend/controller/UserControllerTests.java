@@ -0,0 +1,100 @@
+package com.monochrome.Backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.repository.UserRepository;
+import com.monochrome.Backend.support.TestAccounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestAccounts.class)
+class UserControllerTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestAccounts accounts;
+
+    @BeforeEach
+    void seed() {
+        accounts.user("notary", "notary-pass");
+        accounts.user("assessor", "assessor-pass");
+    }
+
+    private String login(String username) throws Exception {
+        return accounts.bearer(username, username + "-pass");
+    }
+
+    @Test
+    void meAnswers304UntilTheUserChanges() throws Exception {
+        String bearer = login("notary");
+
+        MockHttpServletResponse first = mvc.perform(get("/api/auth/me").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+
+        MockHttpServletResponse unchanged = mvc.perform(get("/api/auth/me")
+                        .header("Authorization", bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse();
+        assertThat(unchanged.getContentAsString()).isEmpty();
+        assertThat(unchanged.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+
+        // a permission grant alone bumps the version, and the commit invalidates the cached one
+        transactionTemplate.executeWithoutResult(status -> {
+            User notary = userRepository.findByUsername("notary").orElseThrow();
+            notary.getPermissions().add(accounts.permission("deeds"));
+        });
+
+        MockHttpServletResponse changed = mvc.perform(get("/api/auth/me")
+                        .header("Authorization", bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertThat(changed.getHeaders(HttpHeaders.ETAG)).hasSize(1).doesNotContain(etag);
+        assertThat(objectMapper.readTree(changed.getContentAsString()).get("permissions").get(0).asText())
+                .isEqualTo("deeds");
+    }
+
+    @Test
+    void disablingAUserRevokesTokensAlreadyIssued() throws Exception {
+        String bearer = login("assessor");
+        mvc.perform(get("/api/admin/demo").header("Authorization", bearer))
+                .andExpect(status().isOk());
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findByUsername("assessor").orElseThrow().setEnabled(false));
+
+        mvc.perform(get("/api/admin/demo").header("Authorization", bearer))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,119 @@
+package com.monochrome.Backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.repository.UserRepository;
+import com.monochrome.Backend.support.TestAccounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestAccounts.class)
+class UserImportControllerTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestAccounts accounts;
+
+    @BeforeEach
+    void seed() {
+        accounts.permission("land-records");
+        accounts.user("registrar", "registrar-pass", user -> user
+                .name("Registrar General")
+                .role(Role.SUPERADMIN));
+    }
+
+    private String bearer() throws Exception {
+        return accounts.bearer("registrar", "registrar-pass");
+    }
+
+    private JsonNode awaitJob(String bearer, String location) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            String body = mvc.perform(get(location).header("Authorization", bearer))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode job = objectMapper.readTree(body);
+            if (job.get("finishedAt") != null && !job.get("finishedAt").isNull()) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Import did not finish");
+    }
+
+    @Test
+    void importsCsvAndReportsRowErrors() throws Exception {
+        String bearer = bearer();
+        String csv = """
+                username,email,password,name,department,role,permissions
+                surveyor1,surveyor1@gov.lk,surveyor-pass,"Perera, A.",Survey Department,admin,land-records
+                surveyor2,surveyor2@gov.lk,surveyor-pass,Silva B.,Survey Department,ADMIN,
+                registrar,dup@gov.lk,surveyor-pass,Taken,,ADMIN,
+                surveyor3,surveyor3@gov.lk,short,Short Password,,ADMIN,
+                surveyor4,surveyor4@gov.lk,surveyor-pass,Unknown Permission,,ADMIN,no-such-permission
+                surveyor1,other@gov.lk,surveyor-pass,Repeated,,ADMIN,
+                """;
+
+        MvcResult submitted = mvc.perform(post("/api/superadmin/users/import")
+                        .header("Authorization", bearer)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn();
+
+        JsonNode job = awaitJob(bearer, submitted.getResponse().getHeader("Location"));
+        assertThat(job.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(job.get("total").asInt()).isEqualTo(6);
+        assertThat(job.get("created").asInt()).isEqualTo(2);
+        assertThat(job.get("failed").asInt()).isEqualTo(4);
+        assertThat(job.get("errors")).extracting(e -> e.get("row").asInt()).containsExactlyInAnyOrder(3, 4, 5, 6);
+
+        User imported = userRepository.findByUsername("surveyor1").orElseThrow();
+        assertThat(imported.getName()).isEqualTo("Perera, A.");
+        assertThat(new BCryptPasswordEncoder().matches("surveyor-pass", imported.getPassword())).isTrue();
+        assertThat(userRepository.existsByUsername("surveyor2")).isTrue();
+    }
+
+    @Test
+    void rejectsJsonThatIsNotAnArray() throws Exception {
+        mvc.perform(post("/api/superadmin/users/import")
+                        .header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"x\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownJobIsNotFound() throws Exception {
+        mvc.perform(get("/api/superadmin/users/import/missing").header("Authorization", bearer()))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,43 @@
+package com.monochrome.Backend.invalidation;
+
+import com.monochrome.Backend.service.ClusterLockService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DbInvalidationBusTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClusterLockService clusterLockService;
+
+    @Test
+    void nodesSeeEachOthersEventsButNotTheirOwn() {
+        List<Object> seenByA = new ArrayList<>();
+        List<Object> seenByB = new ArrayList<>();
+        DbInvalidationBus nodeA = new DbInvalidationBus(jdbcTemplate, seenByA::add, clusterLockService, 5000, 10);
+        DbInvalidationBus nodeB = new DbInvalidationBus(jdbcTemplate, seenByB::add, clusterLockService, 5000, 10);
+        nodeA.start();
+        nodeB.start();
+
+        nodeA.publish(InvalidationEvent.user("cartographer"));
+        nodeA.publish(InvalidationEvent.permissions());
+        assertThat(seenByA).containsExactly(InvalidationEvent.user("cartographer"), InvalidationEvent.permissions());
+
+        nodeA.poll();
+        nodeB.poll();
+        assertThat(seenByA).hasSize(2);
+        assertThat(seenByB).containsExactly(InvalidationEvent.user("cartographer"), InvalidationEvent.permissions());
+    }
+}
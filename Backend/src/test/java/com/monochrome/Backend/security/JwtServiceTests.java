@@ -0,0 +1,117 @@
+package com.monochrome.Backend.security;
+
+import com.monochrome.Backend.entity.Permission;
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.invalidation.InvalidationEvent;
+import com.monochrome.Backend.repository.PermissionRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtServiceTests {
+
+    private final PermissionCatalog permissionCatalog = catalog();
+
+    private final JwtService jwtService = new JwtService(new AuthMetrics(new SimpleMeterRegistry()), permissionCatalog,
+            new HmacJwtKeys("my-super-secret-key-that-is-at-least-32-characters"), 15, 7, 100);
+
+    private static PermissionCatalog catalog() {
+        PermissionRepository repository = mock(PermissionRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                Permission.builder().id(1L).name("appointments").build(),
+                Permission.builder().id(2L).name("services").build(),
+                Permission.builder().id(3L).name("users").build()));
+        return new PermissionCatalog(repository, 100);
+    }
+
+    private User user() {
+        return User.builder()
+                .id(2L)
+                .username("admin")
+                .role(Role.ADMIN)
+                .permissions(Set.of(
+                        Permission.builder().id(1L).name("appointments").build(),
+                        Permission.builder().id(3L).name("users").build()))
+                .build();
+    }
+
+    @Test
+    void parseTokenReturnsCachedClaimsForSameToken() {
+        String token = jwtService.generateAccessToken(user());
+
+        Claims first = jwtService.parseToken(token);
+        Claims second = jwtService.parseToken(token);
+
+        assertThat(first.getSubject()).isEqualTo("admin");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void tamperedTokenIsNotServedFromCache() {
+        String token = jwtService.generateAccessToken(user());
+        jwtService.parseToken(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.parseToken(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void permissionsTravelAsBitmaskAndResolveToInternedAuthorities() {
+        Claims claims = jwtService.parseToken(jwtService.generateAccessToken(user()));
+        String mask = claims.get("perms", String.class);
+
+        assertThat(claims.get("permissions")).isNull();
+        assertThat(permissionCatalog.decode(mask)).containsExactlyInAnyOrder("appointments", "users");
+        assertThat(permissionCatalog.authorities("ADMIN", mask))
+                .extracting(Object::toString)
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "PERM_APPOINTMENTS", "PERM_USERS");
+        assertThat(permissionCatalog.authorities("ADMIN", mask))
+                .isSameAs(permissionCatalog.authoritiesForNames("ADMIN", Set.of("users", "appointments")));
+    }
+
+    @Test
+    void unknownPermissionNamesDoNotReloadTheCatalogOnEveryCall() {
+        PermissionRepository repository = mock(PermissionRepository.class);
+        when(repository.findAll()).thenReturn(List.of(Permission.builder().id(1L).name("appointments").build()));
+        PermissionCatalog catalog = new PermissionCatalog(repository, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(catalog.decode(catalog.encode(Set.of("appointments", "bogus")))).containsExactly("appointments");
+        }
+
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void invalidatedCatalogKeepsServingThePreviousSnapshotUntilAReloadSucceeds() {
+        PermissionRepository repository = mock(PermissionRepository.class);
+        when(repository.findAll())
+                .thenReturn(List.of(Permission.builder().id(1L).name("appointments").build()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of(
+                        Permission.builder().id(1L).name("appointments").build(),
+                        Permission.builder().id(2L).name("services").build()));
+        PermissionCatalog catalog = new PermissionCatalog(repository, 100);
+        String mask = catalog.encode(Set.of("appointments"));
+
+        catalog.onInvalidation(InvalidationEvent.permissions());
+        assertThat(catalog.decode(mask)).containsExactly("appointments");
+        assertThat(catalog.decode(catalog.encode(Set.of("appointments", "services"))))
+                .containsExactlyInAnyOrder("appointments", "services");
+
+        verify(repository, times(3)).findAll();
+    }
+}
@@ -0,0 +1,32 @@
+package com.monochrome.Backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalLoginThrottleBackendTests {
+
+    private final LocalLoginThrottleBackend backend = new LocalLoginThrottleBackend(100, Duration.ofMinutes(1));
+
+    @Test
+    void allowsBurstThenRejectsWithRetryHint() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(backend.tryAcquire("u:admin", 3, 60_000)).isZero();
+        }
+
+        long retryAfterMs = backend.tryAcquire("u:admin", 3, 60_000);
+
+        assertThat(retryAfterMs).isPositive().isLessThanOrEqualTo(60_000);
+    }
+
+    @Test
+    void keysAreIndependent() {
+        for (int i = 0; i < 3; i++) {
+            backend.tryAcquire("u:admin", 3, 60_000);
+        }
+
+        assertThat(backend.tryAcquire("u:superadmin", 3, 60_000)).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package com.monochrome.Backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monochrome.Backend.support.TestAccounts;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.auth.password-hash.threads=1",
+        "app.auth.password-hash.queue-capacity=1",
+        "app.auth.password-hash.retry-after-seconds=7"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestAccounts.class)
+class LoginCapacityTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestAccounts accounts;
+
+    @Autowired
+    private PasswordHashExecutor hashExecutor;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void saturatedHashPoolTurnsLoginAwayWithRetryAfter() throws Exception {
+        accounts.user("crowded", "capacity-pass");
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // one hash running on the only worker, one waiting in the only queue slot
+            for (int i = 0; i < 2; i++) {
+                callers.execute(() -> hashExecutor.execute(() -> release.await(10, TimeUnit.SECONDS)));
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (registry.get("auth.password_hash.queue.depth").gauge().value() < 1) {
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+
+            mvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    Map.of("username", "crowded", "password", "capacity-pass"))))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"));
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+        assertThat(callers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        // capacity is back, so the same login goes through
+        accounts.login("crowded", "capacity-pass");
+    }
+}
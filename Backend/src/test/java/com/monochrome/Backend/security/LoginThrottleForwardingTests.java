@@ -0,0 +1,48 @@
+package com.monochrome.Backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Goes through the real connector, where the forwarded-header handling happens; the test client connects from
+ * loopback and so stands in for the proxy.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.auth.throttle.per-ip.burst=2",
+        "app.auth.throttle.per-ip.per-minute=1"})
+@ActiveProfiles("test")
+class LoginThrottleForwardingTests {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    private int attempt(String clientIp) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientIp)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"visitor-" + clientIp + "\",\"password\":\"guess\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Test
+    void clientsBehindTheProxyAreThrottledSeparately() throws Exception {
+        assertThat(attempt("203.0.113.7")).isEqualTo(401);
+        assertThat(attempt("203.0.113.7")).isEqualTo(401);
+        assertThat(attempt("203.0.113.7")).isEqualTo(429);
+
+        assertThat(attempt("198.51.100.9")).isEqualTo(401);
+    }
+}
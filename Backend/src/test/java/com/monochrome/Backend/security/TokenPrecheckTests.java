@@ -0,0 +1,34 @@
+package com.monochrome.Backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenPrecheckTests {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private static String token(String claimsJson) {
+        Base64.Encoder b64 = Base64.getUrlEncoder().withoutPadding();
+        return b64.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + b64.encodeToString(claimsJson.getBytes(StandardCharsets.UTF_8)) + ".c2lnbmF0dXJl";
+    }
+
+    @Test
+    void rejectsValuesThatAreNotCompactJws() {
+        assertThat(TokenPrecheck.check("undefined", NOW)).isEqualTo(TokenPrecheck.Result.MALFORMED);
+        assertThat(TokenPrecheck.check("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhIn0", NOW)).isEqualTo(TokenPrecheck.Result.MALFORMED);
+        assertThat(TokenPrecheck.check("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJhIn0.sig.extra", NOW)).isEqualTo(TokenPrecheck.Result.MALFORMED);
+        assertThat(TokenPrecheck.check("eyJhbGciOiJIUzI1NiJ9.eyJzdWIi+iJhIn0.sig", NOW)).isEqualTo(TokenPrecheck.Result.MALFORMED);
+    }
+
+    @Test
+    void rejectsExpiredAndPassesLiveOrUndatedTokens() {
+        assertThat(TokenPrecheck.check(token("{\"sub\":\"a\",\"exp\":1600000000}"), NOW)).isEqualTo(TokenPrecheck.Result.EXPIRED);
+        assertThat(TokenPrecheck.check(token("{\"sub\":\"a\",\"exp\":1800000000}"), NOW)).isEqualTo(TokenPrecheck.Result.OK);
+        assertThat(TokenPrecheck.check(token("{\"sub\":\"a\"}"), NOW)).isEqualTo(TokenPrecheck.Result.OK);
+    }
+}
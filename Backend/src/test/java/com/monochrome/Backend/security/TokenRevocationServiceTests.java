@@ -0,0 +1,76 @@
+package com.monochrome.Backend.security;
+
+import com.monochrome.Backend.repository.RevokedAccessTokenRepository;
+import com.monochrome.Backend.service.ClusterLockService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTests {
+
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        RevokedAccessTokenRepository repository = mock(RevokedAccessTokenRepository.class);
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        doAnswer(inv -> null).when(tx).executeWithoutResult(any());
+        service = new TokenRevocationService(repository, mock(ClusterLockService.class), tx, 15, 5000, 4096, 5, true);
+        service.load();
+    }
+
+    private static Claims claims(String jti, String subject, Instant issuedAt) {
+        return Jwts.claims().setId(jti).setSubject(subject).setIssuedAt(Date.from(issuedAt));
+    }
+
+    @Test
+    void revokedJtiIsRejectedAndOthersPass() {
+        Instant now = Instant.now();
+        service.revokeToken("jti-1", now.plus(10, ChronoUnit.MINUTES));
+
+        assertThat(service.isRevoked(claims("jti-1", "admin", now))).isTrue();
+        assertThat(service.isRevoked(claims("jti-2", "admin", now))).isFalse();
+    }
+
+    @Test
+    void userCutoffRevokesTokensIssuedUpToIt() {
+        Instant issued = Instant.now().minus(1, ChronoUnit.MINUTES);
+        service.revokeAllForUser("admin");
+
+        assertThat(service.isRevoked(claims("a", "admin", issued))).isTrue();
+        assertThat(service.isRevoked(claims("b", "admin", Instant.now().plus(2, ChronoUnit.SECONDS)))).isFalse();
+        assertThat(service.isRevoked(claims("c", "someone-else", issued))).isFalse();
+    }
+
+    @Test
+    void pollingWaitsForTheStartupLoad() {
+        RevokedAccessTokenRepository repository = mock(RevokedAccessTokenRepository.class);
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        when(repository.findByRevokedAtGreaterThanEqual(any())).thenReturn(List.of());
+        TokenRevocationService polling = new TokenRevocationService(repository, mock(ClusterLockService.class),
+                mock(TransactionTemplate.class), 15, 5000, 4096, 5, true);
+
+        polling.poll();
+        verify(repository, never()).findByRevokedAtGreaterThanEqual(any());
+
+        polling.start();
+        polling.poll();
+        verify(repository).findByRevokedAtGreaterThanEqual(any());
+    }
+}
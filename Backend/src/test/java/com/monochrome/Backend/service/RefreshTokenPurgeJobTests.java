@@ -0,0 +1,85 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.entity.SchedulerLock;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.repository.RefreshTokenRepository;
+import com.monochrome.Backend.repository.SchedulerLockRepository;
+import com.monochrome.Backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenPurgeJobTests {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private ClusterLockService clusterLockService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private void seed(String tokenHash, Long userId, Instant expiresAt, boolean revoked) {
+        jdbcTemplate.update("INSERT INTO refresh_tokens (token_hash, family_id, user_id, issued_at, expires_at, " +
+                        "rotated, revoked) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                tokenHash, RefreshTokenStore.newFamilyId(), userId, Timestamp.from(Instant.now()),
+                Timestamp.from(expiresAt), false, revoked);
+    }
+
+    @Test
+    void deletesExpiredAndRevokedTokensInBatchesAndReleasesTheLease() {
+        Long userId = userRepository.findByUsername("purged").orElseGet(() -> userRepository.save(User.builder()
+                .username("purged")
+                .email("purged@gov.lk")
+                .password("unused")
+                .name("purged")
+                .role(Role.ADMIN)
+                .build())).getId();
+        Instant past = Instant.now().minus(1, ChronoUnit.HOURS);
+        Instant future = Instant.now().plus(1, ChronoUnit.DAYS);
+        for (int i = 0; i < 3; i++) {
+            seed("purge-expired-" + i, userId, past, false);
+        }
+        for (int i = 0; i < 2; i++) {
+            seed("purge-revoked-" + i, userId, future, true);
+            seed("purge-live-" + i, userId, future, false);
+        }
+
+        // five doomed rows at two per batch: the loop has to keep going past full batches
+        new RefreshTokenPurgeJob(refreshTokenRepository, clusterLockService, transactionTemplate,
+                new SimpleMeterRegistry(), 2, 100, 0, 60).purge();
+
+        List<String> left = jdbcTemplate.queryForList(
+                "SELECT token_hash FROM refresh_tokens WHERE token_hash LIKE 'purge-%'", String.class);
+        assertThat(left).containsExactlyInAnyOrder("purge-live-0", "purge-live-1");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE expires_at < ? OR revoked = true",
+                Integer.class, Timestamp.from(Instant.now()))).isZero();
+        SchedulerLock lock = schedulerLockRepository.findById("refresh-token-purge").orElseThrow();
+        assertThat(lock.getLockedUntil()).isBeforeOrEqualTo(Instant.now());
+    }
+}
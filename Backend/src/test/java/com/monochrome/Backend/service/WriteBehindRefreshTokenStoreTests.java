@@ -0,0 +1,144 @@
+package com.monochrome.Backend.service;
+
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.repository.RefreshTokenRepository;
+import com.monochrome.Backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class WriteBehindRefreshTokenStoreTests {
+
+    // no such user, so the insert breaks the foreign key
+    private static final long MISSING_USER_ID = 987_654_321L;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<WriteBehindRefreshTokenStore> stores = new ArrayList<>();
+    private Long userId;
+
+    @BeforeEach
+    void seed() {
+        userId = userRepository.findByUsername("writer").orElseGet(() -> userRepository.save(User.builder()
+                .username("writer")
+                .email("writer@gov.lk")
+                .password("unused")
+                .name("writer")
+                .role(Role.ADMIN)
+                .build())).getId();
+    }
+
+    @AfterEach
+    void shutdown() {
+        stores.forEach(WriteBehindRefreshTokenStore::shutdown);
+    }
+
+    private WriteBehindRefreshTokenStore store(String durability, long flushIntervalMs) {
+        WriteBehindRefreshTokenStore store = new WriteBehindRefreshTokenStore(refreshTokenRepository, jdbcTemplate,
+                transactionTemplate, durability, 10, 1000, flushIntervalMs, 1000, 0);
+        stores.add(store);
+        return store;
+    }
+
+    private static Instant expiry() {
+        return Instant.now().plus(1, ChronoUnit.DAYS);
+    }
+
+    private int rows(String rawToken) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens WHERE token_hash = ?",
+                Integer.class, RefreshTokenStore.hash(rawToken));
+    }
+
+    @Test
+    void asyncIssueIsFoundBeforeTheWriterRuns() {
+        WriteBehindRefreshTokenStore store = store("async", 60_000);
+        String token = store.issue(userId, expiry());
+
+        assertThat(rows(token)).isZero();
+        // the lookup drains the queue when the row is not there yet
+        assertThat(store.find(token)).hasValueSatisfying(resolved -> {
+            assertThat(resolved.token().userId()).isEqualTo(userId);
+            assertThat(resolved.user().getUsername()).isEqualTo("writer");
+        });
+        assertThat(rows(token)).isOne();
+    }
+
+    @Test
+    void groupCommitReturnsOnceTheRowIsCommitted() {
+        WriteBehindRefreshTokenStore store = store("group-commit", 20);
+        String token = store.issue(userId, expiry());
+
+        assertThat(rows(token)).isOne();
+    }
+
+    @Test
+    void groupCommitFailsOnlyTheIssuerWhoseRowIsRejected() {
+        WriteBehindRefreshTokenStore store = store("group-commit", 20);
+
+        assertThatThrownBy(() -> store.issue(MISSING_USER_ID, expiry()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(rows(store.issue(userId, expiry()))).isOne();
+    }
+
+    @Test
+    void rotationCommitsTheSuccessorWithTheRetiredToken() {
+        WriteBehindRefreshTokenStore store = store("async", 60_000);
+        String token = store.issue(userId, expiry());
+        StoredRefreshToken current = store.find(token).orElseThrow().token();
+
+        String next = store.rotate(current, expiry()).orElseThrow();
+
+        // nothing left to the writer: the successor is already on disk
+        assertThat(rows(next)).isOne();
+        assertThat(store.find(token)).hasValueSatisfying(resolved -> assertThat(resolved.token().rotated()).isTrue());
+        assertThat(store.find(next)).hasValueSatisfying(resolved -> {
+            assertThat(resolved.token().familyId()).isEqualTo(current.familyId());
+            assertThat(resolved.token().isUsable(Instant.now())).isTrue();
+        });
+        assertThat(store.rotate(current, expiry())).isEmpty();
+    }
+
+    @Test
+    void failingRowIsDroppedWithoutTakingTheBatchDown() {
+        WriteBehindRefreshTokenStore store = store("async", 60_000);
+        String first = store.issue(userId, expiry());
+        String orphan = store.issue(MISSING_USER_ID, expiry());
+        String last = store.issue(userId, expiry());
+
+        // a caller draining the queue is not failed by another user's row
+        store.flush();
+
+        assertThat(rows(first)).isOne();
+        assertThat(rows(last)).isOne();
+        assertThat(rows(orphan)).isZero();
+        assertThat(store.find(orphan)).isEmpty();
+        assertThat(store.liveTokens(userId)).extracting(StoredRefreshToken::tokenHash)
+                .contains(RefreshTokenStore.hash(first), RefreshTokenStore.hash(last));
+    }
+}
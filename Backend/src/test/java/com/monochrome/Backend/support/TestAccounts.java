@@ -0,0 +1,84 @@
+package com.monochrome.Backend.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monochrome.Backend.entity.Permission;
+import com.monochrome.Backend.entity.Role;
+import com.monochrome.Backend.entity.User;
+import com.monochrome.Backend.repository.PermissionRepository;
+import com.monochrome.Backend.repository.UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Users, permissions and logins for MockMvc tests; pull it in with {@code @Import(TestAccounts.class)}.
+ * Seeding is idempotent because test classes sharing a context run their {@code @BeforeEach} against the
+ * same database.
+ */
+@TestComponent
+public class TestAccounts {
+
+    private final MockMvc mvc;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final PermissionRepository permissionRepository;
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    // one BCrypt per distinct password, however many users share it
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+
+    public TestAccounts(MockMvc mvc, ObjectMapper objectMapper, UserRepository userRepository,
+                        PermissionRepository permissionRepository) {
+        this.mvc = mvc;
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.permissionRepository = permissionRepository;
+    }
+
+    public Permission permission(String name) {
+        return permissionRepository.findByName(name)
+                .orElseGet(() -> permissionRepository.save(Permission.builder().name(name).build()));
+    }
+
+    public User user(String username, String password) {
+        return user(username, password, UnaryOperator.identity());
+    }
+
+    /**
+     * Saves the user unless the username is taken, in which case the existing user is returned. The builder
+     * starts as an enabled ADMIN with {@code <username>@gov.lk} and the username as name.
+     */
+    public User user(String username, String password, UnaryOperator<User.UserBuilder> details) {
+        return userRepository.findByUsername(username).orElseGet(() -> userRepository.save(details.apply(User.builder()
+                        .username(username)
+                        .email(username + "@gov.lk")
+                        .password(hashes.computeIfAbsent(password, encoder::encode))
+                        .name(username)
+                        .role(Role.ADMIN))
+                .build()));
+    }
+
+    /**
+     * Logs in and returns the response body, failing unless the login succeeds.
+     */
+    public JsonNode login(String username, String password) throws Exception {
+        String body = mvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("username", username, "password", password))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    public String bearer(String username, String password) throws Exception {
+        return "Bearer " + login(username, password).get("token").asText();
+    }
+}
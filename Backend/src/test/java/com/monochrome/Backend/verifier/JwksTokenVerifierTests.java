@@ -0,0 +1,99 @@
+package com.monochrome.Backend.verifier;
+
+import com.monochrome.Backend.security.JwksDocument;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwksTokenVerifierTests {
+
+    private final Map<String, RSAPublicKey> published = new LinkedHashMap<>();
+    private final AtomicReference<JwksDocument> jwks = new AtomicReference<>();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private HttpServer server;
+    private JwksTokenVerifier verifier;
+
+    @BeforeEach
+    void start() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            fetches.incrementAndGet();
+            JwksDocument doc = jwks.get();
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=300");
+            exchange.getResponseHeaders().add("ETag", doc.etag());
+            if (doc.etag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                exchange.sendResponseHeaders(200, doc.json().length);
+                exchange.getResponseBody().write(doc.json());
+            }
+            exchange.close();
+        });
+        server.start();
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/.well-known/jwks.json");
+        verifier = new JwksTokenVerifier(uri, HttpClient.newHttpClient(), Duration.ZERO);
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop(0);
+    }
+
+    private KeyPair publish(String kid) {
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        published.put(kid, (RSAPublicKey) pair.getPublic());
+        jwks.set(JwksDocument.of(published));
+        return pair;
+    }
+
+    private static String sign(KeyPair pair, String kid) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, kid)
+                .setSubject("admin")
+                .signWith(pair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    @Test
+    void verifiesWithCachedKeysAndRefetchesOnUnknownKid() {
+        KeyPair first = publish("k1");
+
+        assertThat(verifier.verify(sign(first, "k1")).getSubject()).isEqualTo("admin");
+        assertThat(verifier.verify(sign(first, "k1")).getSubject()).isEqualTo("admin");
+        assertThat(fetches).hasValue(1);
+
+        KeyPair second = publish("k2");
+
+        assertThat(verifier.verify(sign(second, "k2")).getSubject()).isEqualTo("admin");
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void rejectsTokensSignedWithUnpublishedKeys() {
+        publish("k1");
+        KeyPair rogue = Keys.keyPairFor(SignatureAlgorithm.RS256);
+
+        assertThatThrownBy(() -> verifier.verify(sign(rogue, "k1"))).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> verifier.verify(sign(rogue, "other"))).isInstanceOf(SignatureException.class);
+    }
+}
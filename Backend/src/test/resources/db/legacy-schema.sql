@@ -0,0 +1,25 @@
+-- What ddl-auto=update created on MySQL from the entities before migrations existed, with one user signed in.
+create table permissions (id bigint not null auto_increment, name varchar(255) not null, primary key (id)) engine=InnoDB;
+create table refresh_tokens (revoked bit not null, expires_at datetime(6) not null, id bigint not null auto_increment, user_id bigint not null, token varchar(512) not null, primary key (id)) engine=InnoDB;
+create table user_permissions (permission_id bigint not null, user_id bigint not null, primary key (permission_id, user_id)) engine=InnoDB;
+create table users (enabled bit not null, created_at datetime(6), id bigint not null auto_increment, department varchar(255), email varchar(255) not null, name varchar(255) not null, password varchar(255) not null, username varchar(255) not null, role enum ('ADMIN','SUPERADMIN') not null, primary key (id)) engine=InnoDB;
+alter table permissions add constraint UKpnvtwliis6p05pn6i3ndjrqt2 unique (name);
+alter table refresh_tokens add constraint UKghpmfn23vmxfu3spu3lfg4r2d unique (token);
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table users add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+alter table refresh_tokens add constraint FK1lih5y2npsf8u5o3vhdb9y0os foreign key (user_id) references users (id);
+alter table user_permissions add constraint FKq4qlrabt4s0etm9tfkoqfuib1 foreign key (permission_id) references permissions (id);
+alter table user_permissions add constraint FKkowxl8b2bngrxd1gafh13005u foreign key (user_id) references users (id);
+
+insert into permissions (id, name) values (1, 'users');
+-- password: legacy-pass
+insert into users (enabled, created_at, id, department, email, name, password, username, role)
+values (1, '2025-01-10 09:00:00', 1, 'Registrar General', 'veteran@gov.lk', 'Veteran Officer',
+        '$2a$10$SuTBKUesr9swo3oZixQkLOfi.zGI9bWwcAKN7Tg1dCmCKDJ4THARm', 'veteran', 'ADMIN');
+-- added straight into the table without a creation time
+insert into users (enabled, id, email, name, password, username, role)
+values (1, 2, 'archivist@gov.lk', 'Archivist', '$2a$10$SuTBKUesr9swo3oZixQkLOfi.zGI9bWwcAKN7Tg1dCmCKDJ4THARm',
+        'archivist', 'ADMIN');
+insert into user_permissions (permission_id, user_id) values (1, 1);
+insert into refresh_tokens (revoked, expires_at, id, user_id, token)
+values (0, '2099-01-01 00:00:00', 1, 1, 'eyJhbGciOiJIUzI1NiJ9.legacy-refresh-token');